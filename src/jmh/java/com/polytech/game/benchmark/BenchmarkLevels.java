@@ -0,0 +1,42 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.composite.EnemySwarm;
+import com.polytech.game.patterns.composite.GameLevel;
+import com.polytech.game.patterns.composite.PowerUp;
+
+/**
+ * Builds deterministic levels of a given size for the benchmarks
+ */
+public final class BenchmarkLevels {
+    static final int COLUMNS = 100;
+
+    private BenchmarkLevels() {
+    }
+
+    /**
+     * Create a level with the given number of entities: one in every 20 is a
+     * power-up (19 enemies per power-up), laid out on a dense grid inside the play area
+     */
+    public static GameLevel createLevel(int entityCount) {
+        GameLevel level = new GameLevel("Benchmark " + entityCount);
+        addEnemies(level, entityCount);
+        return level;
+    }
+
+    /**
+     * Add the given number of entities to an existing level
+     */
+    public static void addEnemies(GameLevel level, int entityCount) {
+        EnemySwarm swarm = level.getEnemySwarm();
+        PowerUp.PowerUpType[] types = PowerUp.PowerUpType.values();
+        for (int i = 0; i < entityCount; i++) {
+            double x = 60 + (i % COLUMNS) * 6.8;
+            double y = 80 + (i / COLUMNS) * 4.0;
+            if (i % 20 == 19) {
+                level.add(new PowerUp(x, y, types[i % types.length]));
+            } else {
+                level.add(swarm.spawn(x, y));
+            }
+        }
+    }
+}
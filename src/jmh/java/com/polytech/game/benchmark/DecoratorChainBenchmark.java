@@ -0,0 +1,83 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.decorator.BaseCharacter;
+import com.polytech.game.patterns.decorator.CharacterStats;
+import com.polytech.game.patterns.decorator.FirePowerDecorator;
+import com.polytech.game.patterns.decorator.GameCharacter;
+import com.polytech.game.patterns.decorator.ShieldDecorator;
+import com.polytech.game.patterns.decorator.SpeedBoostDecorator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of stat lookups through a PowerUpDecorator chain of a given depth,
+ * compared with reading them from a CharacterStats snapshot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class DecoratorChainBenchmark {
+    @Param({"0", "1", "5", "20"})
+    public int depth;
+
+    private GameCharacter character;
+    private CharacterStats stats;
+
+    @Setup
+    public void setUp() {
+        character = new BaseCharacter(400, 550);
+        for (int i = 0; i < depth; i++) {
+            switch (i % 3) {
+                case 0:
+                    character = new SpeedBoostDecorator(character, 10);
+                    break;
+                case 1:
+                    character = new ShieldDecorator(character, 10);
+                    break;
+                default:
+                    character = new FirePowerDecorator(character, 10);
+                    break;
+            }
+        }
+        stats = CharacterStats.of(character);
+    }
+
+    @Benchmark
+    public double getSpeed() {
+        return character.getSpeed();
+    }
+
+    @Benchmark
+    public int getFirePower() {
+        return character.getFirePower();
+    }
+
+    @Benchmark
+    public double snapshotSpeed() {
+        return stats.getSpeed();
+    }
+
+    @Benchmark
+    public int snapshotFirePower() {
+        return stats.getFirePower();
+    }
+
+    @Benchmark
+    public CharacterStats recomputeSnapshot() {
+        return CharacterStats.of(character);
+    }
+}
@@ -0,0 +1,59 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.ecs.EcsWorld;
+import com.polytech.game.patterns.composite.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of moving N invaders: archetype tables and systems
+ * versus the composite GameLevel backed by an EnemySwarm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class EcsBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"1000", "100000"})
+    public int entityCount;
+
+    private EcsWorld world;
+    private GameLevel level;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = new EcsWorld("Benchmark " + entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            world.spawnEnemy(60 + (i % BenchmarkLevels.COLUMNS) * 6.8, 80 + (i / BenchmarkLevels.COLUMNS) * 4.0);
+        }
+        level = BenchmarkLevels.createLevel(entityCount);
+    }
+
+    @Benchmark
+    public EcsWorld ecsUpdate() {
+        world.update(STEP);
+        return world;
+    }
+
+    @Benchmark
+    public GameLevel compositeUpdate() {
+        level.update(STEP);
+        return level;
+    }
+}
@@ -0,0 +1,53 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.composite.GameComponent;
+import com.polytech.game.patterns.composite.GameLevel;
+import com.polytech.game.patterns.factory.EnemyFactory;
+import com.polytech.game.patterns.factory.EntityFactory;
+import com.polytech.game.patterns.factory.PowerUpFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a batch of entities through the two factories
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class FactoryBenchmark {
+    @Param({"24", "1000"})
+    public int entityCount;
+
+    @Benchmark
+    public void enemyFactory(Blackhole blackhole) {
+        // A fresh level per batch keeps the swarm from growing across invocations
+        GameLevel level = new GameLevel("Factory");
+        createAll(new EnemyFactory(level.getEnemySwarm()), blackhole);
+    }
+
+    @Benchmark
+    public void powerUpFactory(Blackhole blackhole) {
+        createAll(new PowerUpFactory(), blackhole);
+    }
+
+    private void createAll(EntityFactory factory, Blackhole blackhole) {
+        for (int i = 0; i < entityCount; i++) {
+            GameComponent entity = factory.createEntity(100 + i % 8 * 80, 100 + i / 8 * 60);
+            blackhole.consume(entity);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.level.LevelCompiler;
+import com.polytech.game.level.LevelLoader;
+import com.polytech.game.patterns.composite.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameLevel.update of an invader grid: a loaded level, whose enemies march
+ * as one formation, against the same grid spawned into the level's swarm
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dgame.log.level=WARN", "-Dgame.parallel.threshold=0"})
+public class FormationBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"100", "10000"})
+    public int entityCount;
+
+    private GameLevel formationLevel;
+    private GameLevel swarmLevel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int columns = Math.min(entityCount, BenchmarkLevels.COLUMNS);
+        String source = "name Benchmark\ngrid " + columns + " " + entityCount / columns + " 60 80 6.8 4\n";
+        byte[] compiled = LevelCompiler.compile(source, "benchmark.txt");
+        formationLevel = LevelLoader.load(ByteBuffer.wrap(compiled), "benchmark.txt");
+
+        swarmLevel = new GameLevel("Swarm");
+        for (int i = 0; i < entityCount; i++) {
+            swarmLevel.add(swarmLevel.getEnemySwarm().spawn(60 + (i % columns) * 6.8, 80 + (i / columns) * 4.0));
+        }
+    }
+
+    @Benchmark
+    public GameLevel formationLevelUpdate() {
+        formationLevel.update(STEP);
+        return formationLevel;
+    }
+
+    @Benchmark
+    public GameLevel swarmLevelUpdate() {
+        swarmLevel.update(STEP);
+        return swarmLevel;
+    }
+}
@@ -0,0 +1,46 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.engine.FrameProfiler;
+import com.polytech.game.engine.LatencyHistogram;
+import com.polytech.game.engine.ProfilePhase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the frame profiler: recording one value, and timing an empty phase
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class FrameProfilerBenchmark {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final FrameProfiler profiler = FrameProfiler.getInstance();
+    private long value = 1;
+
+    @Benchmark
+    public LatencyHistogram record() {
+        // Spread the values over the buckets
+        value = value * 6364136223846793005L + 1442695040888963407L;
+        histogram.record((value >>> 40) & 0xFFFFF);
+        return histogram;
+    }
+
+    @Benchmark
+    public FrameProfiler timePhase() {
+        long start = profiler.begin();
+        profiler.end(ProfilePhase.UPDATE, start);
+        return profiler;
+    }
+}
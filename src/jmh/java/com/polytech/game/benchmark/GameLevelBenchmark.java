@@ -0,0 +1,46 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.composite.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of GameLevel.update for a level of enemies and power-ups
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class GameLevelBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"24", "1000", "10000"})
+    public int entityCount;
+
+    private GameLevel level;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        level = BenchmarkLevels.createLevel(entityCount);
+    }
+
+    @Benchmark
+    public GameLevel update() {
+        level.update(STEP);
+        return level;
+    }
+}
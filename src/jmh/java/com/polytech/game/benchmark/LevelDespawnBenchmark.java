@@ -0,0 +1,57 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.composite.GameComponent;
+import com.polytech.game.patterns.composite.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the GameLevel.update that follows a mass kill:
+ * the given percentage of the level is despawned just before the update
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class LevelDespawnBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"1000", "10000"})
+    public int entityCount;
+
+    @Param({"10", "50"})
+    public int killedPercent;
+
+    private GameLevel level;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        level = BenchmarkLevels.createLevel(entityCount);
+        List<GameComponent> children = level.getComponents();
+        int killed = children.size() * killedPercent / 100;
+        for (int i = 0; i < killed; i++) {
+            level.despawn(children.get(i));
+        }
+    }
+
+    @Benchmark
+    public GameLevel updateAfterKills() {
+        level.update(STEP);
+        return level;
+    }
+}
@@ -0,0 +1,71 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.level.LevelCompiler;
+import com.polytech.game.level.LevelLoader;
+import com.polytech.game.patterns.composite.GameLevel;
+import com.polytech.game.patterns.factory.EnemyFactory;
+import com.polytech.game.patterns.factory.EntityFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a level from a memory-mapped compiled file against spawning the
+ * same grid through EnemyFactory (logging at INFO, as in the game)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dgame.log.level=INFO", "-Dgame.log.console=false",
+                                  "-Dgame.log.overflow=DROP_NEWEST"})
+public class LevelLoadBenchmark {
+    @Param({"24", "10000"})
+    public int entityCount;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        int columns = Math.min(entityCount, BenchmarkLevels.COLUMNS);
+        String source = "name Benchmark\ngrid " + columns + " " + entityCount / columns + " 60 80 6.8 4\n";
+        file = Files.createTempFile("level", ".glvl");
+        Files.write(file, LevelCompiler.compile(source, "benchmark.txt"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public GameLevel loadMapped() throws IOException {
+        return LevelLoader.load(file);
+    }
+
+    @Benchmark
+    public GameLevel enemyFactory() {
+        GameLevel level = new GameLevel("Factory");
+        EntityFactory factory = new EnemyFactory(level.getEnemySwarm());
+        for (int i = 0; i < entityCount; i++) {
+            level.add(factory.createEntity(60 + i % BenchmarkLevels.COLUMNS * 6.8, 80 + i / BenchmarkLevels.COLUMNS * 4));
+        }
+        return level;
+    }
+}
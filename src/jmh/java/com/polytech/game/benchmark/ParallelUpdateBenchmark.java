@@ -0,0 +1,52 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.patterns.composite.GameLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against fork-join GameLevel.update, to find the entity count
+ * where the parallel path starts paying off (game.parallel.threshold)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class ParallelUpdateBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int entityCount;
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    private GameLevel level;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        level = BenchmarkLevels.createLevel(entityCount);
+        // Threshold 1 forces the parallel path at every size, 0 disables it
+        level.setParallelThreshold("parallel".equals(mode) ? 1 : 0);
+    }
+
+    @Benchmark
+    public GameLevel update() {
+        level.update(STEP);
+        return level;
+    }
+}
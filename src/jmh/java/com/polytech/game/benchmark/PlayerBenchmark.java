@@ -0,0 +1,50 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.entities.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of Player.update with a stack of power-up decorators
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class PlayerBenchmark {
+    private static final double STEP = 1.0 / 60;
+    private static final String[] POWER_UPS = {"SPEED", "SHIELD", "FIREPOWER"};
+
+    @Param({"0", "1", "5"})
+    public int decorators;
+
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        player = new Player(400, 550);
+        for (int i = 0; i < decorators; i++) {
+            // Effectively never expire during the measurement
+            player.applyPowerUpByType(POWER_UPS[i % POWER_UPS.length], Double.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public Player update() {
+        player.update(STEP);
+        return player;
+    }
+}
@@ -0,0 +1,76 @@
+package com.polytech.game.benchmark;
+
+import com.polytech.game.engine.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of many timed effects: polling every remaining time
+ * each tick versus a timing wheel that only visits the due timers.
+ * Every effect is restarted when it expires, so the load stays constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class TimingWheelBenchmark {
+    private static final double STEP = 1.0 / 60;
+
+    @Param({"10", "100", "1000"})
+    public int effects;
+
+    private double[] remaining;
+    private double[] durations;
+    private TimingWheel wheel;
+    private int expired;
+
+    @Setup
+    public void setUp() {
+        remaining = new double[effects];
+        durations = new double[effects];
+        wheel = new TimingWheel(1.0 / 120);
+        for (int i = 0; i < effects; i++) {
+            double duration = 0.3 + (i % 50) * 0.1;
+            durations[i] = duration;
+            remaining[i] = duration;
+
+            TimingWheel.Timer[] self = new TimingWheel.Timer[1];
+            self[0] = new TimingWheel.Timer(() -> {
+                expired++;
+                wheel.schedule(self[0], duration);
+            });
+            wheel.schedule(self[0], duration);
+        }
+    }
+
+    @Benchmark
+    public int polling() {
+        for (int i = 0; i < effects; i++) {
+            remaining[i] -= STEP;
+            if (remaining[i] <= 0) {
+                expired++;
+                remaining[i] = durations[i];
+            }
+        }
+        return expired;
+    }
+
+    @Benchmark
+    public int timingWheel() {
+        wheel.advance(STEP);
+        return expired;
+    }
+}
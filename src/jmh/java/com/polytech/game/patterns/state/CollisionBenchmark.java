@@ -0,0 +1,59 @@
+package com.polytech.game.patterns.state;
+
+import com.polytech.game.benchmark.BenchmarkLevels;
+import com.polytech.game.entities.Player;
+import com.polytech.game.patterns.pool.BulletPool;
+import com.polytech.game.patterns.singleton.GameContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of PlayingState.checkCollisions with a full bullet pool.
+ * Bullets are placed below the enemies, so every bullet runs the broadphase
+ * query without killing anything and the workload stays constant.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dgame.log.level=WARN")
+public class CollisionBenchmark {
+    @Param({"24", "1000", "10000"})
+    public int entityCount;
+
+    @Param({"3", "64"})
+    public int bulletCount;
+
+    private PlayingState state;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        state = new PlayingState(GameContext.getInstance());
+        BenchmarkLevels.addEnemies(state.getCurrentLevel(), entityCount);
+
+        Player player = state.getPlayer();
+        BulletPool bullets = player.getBullets();
+        for (int i = 0; i < bulletCount; i++) {
+            bullets.acquire(40 + (i * 11) % 720, 500 + (i % 8) * 8, true, 1);
+        }
+    }
+
+    @Benchmark
+    public PlayingState checkCollisions() {
+        state.checkCollisions();
+        return state;
+    }
+}
@@ -1,6 +1,7 @@
 package com.polytech.game;
 
 import com.polytech.game.gui.GameWindow;
+import com.polytech.game.journal.EventJournal;
 import com.polytech.game.patterns.singleton.GameLogger;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -20,6 +21,7 @@ import javafx.stage.Stage;
  * @version 1.0
  */
 public class Main extends Application {
+    private GameWindow gameWindow;
 
     @Override
     public void start(Stage primaryStage) {
@@ -30,12 +32,12 @@ public class Main extends Application {
         logger.info("=".repeat(60));
 
         try {
-            GameWindow gameWindow = new GameWindow();
+            gameWindow = new GameWindow();
             gameWindow.start(primaryStage);
 
             logger.info("Game window initialized successfully");
         } catch (Exception e) {
-            logger.error("Failed to start game: " + e.getMessage());
+            logger.error("Failed to start game: {}", e.getMessage());
             e.printStackTrace();
         }
     }
@@ -46,6 +48,10 @@ public class Main extends Application {
         logger.info("=".repeat(60));
         logger.info("Application shutting down...");
         logger.info("=".repeat(60));
+        if (gameWindow != null) {
+            gameWindow.stop();
+        }
+        EventJournal.getInstance().close();
         logger.close();
     }
 
@@ -0,0 +1,224 @@
+package com.polytech.game.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Archetype
+ * Table of every entity sharing one set of components.
+ *
+ * Each component field is a primitive column indexed by row, so systems
+ * stream through plain arrays instead of chasing one object per entity.
+ * Columns of absent components stay null. Rows are kept dense: removing a
+ * row moves the last row into its place.
+ *
+ * Column arrays are reallocated when the table grows, so systems must
+ * fetch them again on every run rather than keep them.
+ */
+public final class Archetype {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int mask;
+    private int count;
+    private int[] entities;
+
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] velocityX;
+    private double[] velocityY;
+    private int[] health;
+    private double[] width;
+    private double[] height;
+    private int[] sprite;
+    private int[] frame;
+
+    Archetype(int mask) {
+        this.mask = mask;
+        this.entities = new int[INITIAL_CAPACITY];
+        if (has(ComponentType.POSITION)) {
+            x = new double[INITIAL_CAPACITY];
+            y = new double[INITIAL_CAPACITY];
+            previousX = new double[INITIAL_CAPACITY];
+            previousY = new double[INITIAL_CAPACITY];
+        }
+        if (has(ComponentType.VELOCITY)) {
+            velocityX = new double[INITIAL_CAPACITY];
+            velocityY = new double[INITIAL_CAPACITY];
+        }
+        if (has(ComponentType.HEALTH)) {
+            health = new int[INITIAL_CAPACITY];
+        }
+        if (has(ComponentType.COLLIDER)) {
+            width = new double[INITIAL_CAPACITY];
+            height = new double[INITIAL_CAPACITY];
+        }
+        if (has(ComponentType.SPRITE)) {
+            sprite = new int[INITIAL_CAPACITY];
+            frame = new int[INITIAL_CAPACITY];
+        }
+    }
+
+    /**
+     * Append a zeroed row for the entity
+     */
+    int add(int entity) {
+        if (count == entities.length) {
+            grow(count * 2);
+        }
+        int row = count++;
+        entities[row] = entity;
+        if (x != null) {
+            x[row] = 0;
+            y[row] = 0;
+            previousX[row] = 0;
+            previousY[row] = 0;
+        }
+        if (velocityX != null) {
+            velocityX[row] = 0;
+            velocityY[row] = 0;
+        }
+        if (health != null) {
+            health[row] = 0;
+        }
+        if (width != null) {
+            width[row] = 0;
+            height[row] = 0;
+        }
+        if (sprite != null) {
+            sprite[row] = 0;
+            frame[row] = 0;
+        }
+        return row;
+    }
+
+    /**
+     * Remove a row by moving the last row into it
+     *
+     * @return the entity now stored at the row, or -1 if the row was the last one
+     */
+    int removeSwap(int row) {
+        int last = --count;
+        if (row == last) {
+            return -1;
+        }
+        entities[row] = entities[last];
+        if (x != null) {
+            x[row] = x[last];
+            y[row] = y[last];
+            previousX[row] = previousX[last];
+            previousY[row] = previousY[last];
+        }
+        if (velocityX != null) {
+            velocityX[row] = velocityX[last];
+            velocityY[row] = velocityY[last];
+        }
+        if (health != null) {
+            health[row] = health[last];
+        }
+        if (width != null) {
+            width[row] = width[last];
+            height[row] = height[last];
+        }
+        if (sprite != null) {
+            sprite[row] = sprite[last];
+            frame[row] = frame[last];
+        }
+        return entities[row];
+    }
+
+    private void grow(int capacity) {
+        entities = Arrays.copyOf(entities, capacity);
+        if (x != null) {
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+        }
+        if (velocityX != null) {
+            velocityX = Arrays.copyOf(velocityX, capacity);
+            velocityY = Arrays.copyOf(velocityY, capacity);
+        }
+        if (health != null) {
+            health = Arrays.copyOf(health, capacity);
+        }
+        if (width != null) {
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+        }
+        if (sprite != null) {
+            sprite = Arrays.copyOf(sprite, capacity);
+            frame = Arrays.copyOf(frame, capacity);
+        }
+    }
+
+    public boolean has(ComponentType type) {
+        return (mask & type.mask()) != 0;
+    }
+
+    /**
+     * Whether this table has every component of the mask
+     */
+    public boolean matches(int requiredMask) {
+        return (mask & requiredMask) == requiredMask;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Number of rows in use
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int[] getEntities() {
+        return entities;
+    }
+
+    public double[] getX() {
+        return x;
+    }
+
+    public double[] getY() {
+        return y;
+    }
+
+    public double[] getPreviousX() {
+        return previousX;
+    }
+
+    public double[] getPreviousY() {
+        return previousY;
+    }
+
+    public double[] getVelocityX() {
+        return velocityX;
+    }
+
+    public double[] getVelocityY() {
+        return velocityY;
+    }
+
+    public int[] getHealth() {
+        return health;
+    }
+
+    public double[] getWidth() {
+        return width;
+    }
+
+    public double[] getHeight() {
+        return height;
+    }
+
+    public int[] getSprite() {
+        return sprite;
+    }
+
+    public int[] getFrame() {
+        return frame;
+    }
+}
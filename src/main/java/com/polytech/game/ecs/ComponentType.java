@@ -0,0 +1,34 @@
+package com.polytech.game.ecs;
+
+/**
+ * ComponentType
+ * Data components an entity can have. An archetype is identified by the
+ * bit mask of the components its entities share.
+ */
+public enum ComponentType {
+    /** x, y and the previous tick's x, y for interpolation */
+    POSITION,
+    /** velocityX, velocityY in pixels per second */
+    VELOCITY,
+    /** Remaining hit points */
+    HEALTH,
+    /** Axis-aligned box of width x height centered on the position */
+    COLLIDER,
+    /** Sprite ordinal and animation frame */
+    SPRITE;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Bit mask of several component types
+     */
+    public static int maskOf(ComponentType... types) {
+        int mask = 0;
+        for (ComponentType type : types) {
+            mask |= type.mask();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,168 @@
+package com.polytech.game.ecs;
+
+import com.polytech.game.patterns.composite.EnemyComponent;
+import com.polytech.game.patterns.composite.GameComponent;
+import com.polytech.game.patterns.composite.PowerUp;
+import com.polytech.game.render.Renderer;
+
+/**
+ * EcsEntity
+ * GameComponent view of one entity of an {@link EcsWorld}.
+ *
+ * Behaviour and drawing belong to the world's systems, so {@link #update(double)}
+ * and {@link #render(Renderer, double)} do nothing: add the world to the level
+ * along with its entities. The view holds the id's generation and turns
+ * inactive once the entity's health runs out or it is destroyed, even if the
+ * id is reused.
+ */
+public class EcsEntity implements EnemyComponent {
+    private final EcsWorld world;
+    private final int entity;
+    private final int generation;
+
+    EcsEntity(EcsWorld world, int entity) {
+        this.world = world;
+        this.entity = entity;
+        this.generation = world.getStore().getGeneration(entity);
+    }
+
+    @Override
+    public void update(double deltaTime) {
+        // Updated by the world's systems
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
+    }
+
+    @Override
+    public void render(Renderer renderer, double alpha) {
+        // Drawn with every other entity by the world's render system
+    }
+
+    @Override
+    public void add(GameComponent component) {
+        throw new UnsupportedOperationException("Cannot add component to a leaf node");
+    }
+
+    @Override
+    public void remove(GameComponent component) {
+        throw new UnsupportedOperationException("Cannot remove component from a leaf node");
+    }
+
+    @Override
+    public String getName() {
+        return "EcsEntity";
+    }
+
+    /**
+     * False as soon as a hit is fatal, before the health system destroys the entity
+     */
+    @Override
+    public boolean isActive() {
+        if (!exists()) {
+            return false;
+        }
+        EntityStore store = world.getStore();
+        Archetype archetype = store.getArchetype(entity);
+        return !archetype.has(ComponentType.HEALTH) || archetype.getHealth()[store.getRow(entity)] > 0;
+    }
+
+    // Still has a row in the store (possibly with no health left)
+    private boolean exists() {
+        EntityStore store = world.getStore();
+        return store.isAlive(entity) && store.getGeneration(entity) == generation;
+    }
+
+    /**
+     * Deactivating destroys the entity at the world's next update.
+     * Destroyed entities cannot be reactivated.
+     */
+    @Override
+    public void setActive(boolean active) {
+        if (!active && exists()) {
+            world.getStore().destroy(entity);
+        }
+    }
+
+    /**
+     * Apply damage. The health system destroys the entity at zero health.
+     */
+    @Override
+    public void takeDamage(int damage) {
+        if (isActive()) {
+            EntityStore store = world.getStore();
+            store.getArchetype(entity).getHealth()[store.getRow(entity)] -= damage;
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the entity has been destroyed
+     */
+    @Override
+    public double getX() {
+        checkExists();
+        EntityStore store = world.getStore();
+        return store.getArchetype(entity).getX()[store.getRow(entity)];
+    }
+
+    /**
+     * @throws IllegalStateException if the entity has been destroyed
+     */
+    @Override
+    public double getY() {
+        checkExists();
+        EntityStore store = world.getStore();
+        return store.getArchetype(entity).getY()[store.getRow(entity)];
+    }
+
+    /**
+     * Collider width, or 0 without a collider
+     *
+     * @throws IllegalStateException if the entity has been destroyed
+     */
+    @Override
+    public double getWidth() {
+        checkExists();
+        EntityStore store = world.getStore();
+        Archetype archetype = store.getArchetype(entity);
+        return archetype.has(ComponentType.COLLIDER) ? archetype.getWidth()[store.getRow(entity)] : 0;
+    }
+
+    /**
+     * Collider height, or 0 without a collider
+     *
+     * @throws IllegalStateException if the entity has been destroyed
+     */
+    @Override
+    public double getHeight() {
+        checkExists();
+        EntityStore store = world.getStore();
+        Archetype archetype = store.getArchetype(entity);
+        return archetype.has(ComponentType.COLLIDER) ? archetype.getHeight()[store.getRow(entity)] : 0;
+    }
+
+    /**
+     * ECS enemies drop nothing
+     */
+    @Override
+    public PowerUp.PowerUpType getDrop() {
+        return null;
+    }
+
+    // A destroyed entity has no row once the world flushes, or another entity's after reuse
+    private void checkExists() {
+        if (!exists()) {
+            throw new IllegalStateException("EcsEntity " + entity + " has been destroyed");
+        }
+    }
+
+    public int getEntityId() {
+        return entity;
+    }
+
+    public EcsWorld getWorld() {
+        return world;
+    }
+}
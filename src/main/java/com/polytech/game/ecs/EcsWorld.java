@@ -0,0 +1,114 @@
+package com.polytech.game.ecs;
+
+import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.GameComponent;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.Sprite;
+
+/**
+ * EcsWorld
+ * Adapter exposing an entity store as a Composite Pattern node.
+ *
+ * The world can be added to a GameLevel like any other component: its
+ * update runs the systems and its render draws every sprite. Entities are
+ * handed out as {@link EcsEntity} views, so code written against
+ * GameComponent, such as the factories, keeps working; added to a level
+ * too, the views are counted and hit as enemies but not drawn a second time.
+ */
+public class EcsWorld implements GameComponent {
+    private static final int ENEMY_MASK = ComponentType.maskOf(ComponentType.POSITION, ComponentType.VELOCITY,
+            ComponentType.HEALTH, ComponentType.COLLIDER, ComponentType.SPRITE);
+    private static final double ENEMY_SPEED = 50;
+
+    private final String name;
+    private final EntityStore store;
+    private final SystemScheduler scheduler;
+    private final SpriteRenderSystem renderSystem;
+    private boolean active;
+
+    /**
+     * Create a world running the invader systems: movement, edge bounce and health
+     */
+    public EcsWorld(String name) {
+        this.name = name;
+        this.store = new EntityStore();
+        this.scheduler = new SystemScheduler();
+        scheduler.add(new MovementSystem());
+        scheduler.add(new EdgeBounceSystem(50, 750, 10));
+        scheduler.add(new HealthSystem());
+        this.renderSystem = new SpriteRenderSystem();
+        renderSystem.setFallback(Sprite.ENEMY, (renderer, x, y) ->
+                Enemy.paint(renderer, x, y, Sprite.ENEMY.getWidth(), Sprite.ENEMY.getHeight()));
+        this.active = true;
+    }
+
+    /**
+     * Create an invader entity
+     */
+    public EcsEntity spawnEnemy(double x, double y) {
+        int entity = store.create(ENEMY_MASK);
+        store.setPosition(entity, x, y);
+        store.setVelocity(entity, ENEMY_SPEED, 0);
+        store.setHealth(entity, 1);
+        store.setCollider(entity, Sprite.ENEMY.getWidth(), Sprite.ENEMY.getHeight());
+        store.setSprite(entity, Sprite.ENEMY.ordinal(), 0);
+        return new EcsEntity(this, entity);
+    }
+
+    @Override
+    public void update(double deltaTime) {
+        scheduler.update(store, deltaTime);
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
+    }
+
+    @Override
+    public void render(Renderer renderer, double alpha) {
+        renderSystem.render(store, renderer, alpha);
+    }
+
+    @Override
+    public void add(GameComponent component) {
+        // Entities live in the store from the moment they are created
+        if (!(component instanceof EcsEntity) || ((EcsEntity) component).getWorld() != this) {
+            throw new UnsupportedOperationException("Only entities created by this world can be added");
+        }
+    }
+
+    @Override
+    public void remove(GameComponent component) {
+        if (component instanceof EcsEntity && ((EcsEntity) component).getWorld() == this) {
+            component.setActive(false);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public EntityStore getStore() {
+        return store;
+    }
+
+    public SystemScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public SpriteRenderSystem getRenderSystem() {
+        return renderSystem;
+    }
+}
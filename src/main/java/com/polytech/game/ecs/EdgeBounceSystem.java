@@ -0,0 +1,38 @@
+package com.polytech.game.ecs;
+
+/**
+ * EdgeBounceSystem
+ * Invader movement: reverse and drop down when reaching a side of the screen
+ */
+public class EdgeBounceSystem implements EntitySystem {
+    private static final int REQUIRED = ComponentType.maskOf(ComponentType.POSITION, ComponentType.VELOCITY);
+
+    private final double leftEdge;
+    private final double rightEdge;
+    private final double dropDistance;
+
+    public EdgeBounceSystem(double leftEdge, double rightEdge, double dropDistance) {
+        this.leftEdge = leftEdge;
+        this.rightEdge = rightEdge;
+        this.dropDistance = dropDistance;
+    }
+
+    @Override
+    public int getRequiredMask() {
+        return REQUIRED;
+    }
+
+    @Override
+    public void update(EntityStore store, Archetype archetype, double deltaTime) {
+        double[] x = archetype.getX();
+        double[] y = archetype.getY();
+        double[] velocityX = archetype.getVelocityX();
+        int count = archetype.getCount();
+        for (int i = 0; i < count; i++) {
+            if ((x[i] < leftEdge && velocityX[i] < 0) || (x[i] > rightEdge && velocityX[i] > 0)) {
+                velocityX[i] = -velocityX[i];
+                y[i] += dropDistance;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.polytech.game.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * EntityStore
+ * Entities grouped into archetype tables by component set.
+ *
+ * An entity is an int id. The store maps it to its archetype and row.
+ * Ids are recycled, and a generation counter per id lets handles detect
+ * that their entity was destroyed. Destruction is deferred: entities queued
+ * with {@link #destroy(int)} stay in their table until {@link #flush()},
+ * so systems can destroy entities while iterating.
+ */
+public class EntityStore {
+    private final List<Archetype> archetypes;
+    private final List<Archetype> archetypesView;
+
+    private int[] archetypeOf; // index into archetypes, -1 for a free id
+    private int[] rowOf;
+    private int[] generation;
+    private int nextId;
+
+    private int[] freeIds;
+    private int freeCount;
+
+    private int[] pendingDestroy;
+    private int pendingCount;
+    private int entityCount;
+
+    public EntityStore() {
+        this.archetypes = new ArrayList<>();
+        this.archetypesView = Collections.unmodifiableList(archetypes);
+        this.archetypeOf = new int[64];
+        this.rowOf = new int[64];
+        this.generation = new int[64];
+        this.freeIds = new int[16];
+        this.pendingDestroy = new int[16];
+    }
+
+    /**
+     * Create an entity with the given components, all zeroed
+     *
+     * @param mask bit mask of {@link ComponentType}s
+     * @return the entity id
+     */
+    public int create(int mask) {
+        int entity;
+        if (freeCount > 0) {
+            entity = freeIds[--freeCount];
+        } else {
+            if (nextId == archetypeOf.length) {
+                int capacity = nextId * 2;
+                archetypeOf = Arrays.copyOf(archetypeOf, capacity);
+                rowOf = Arrays.copyOf(rowOf, capacity);
+                generation = Arrays.copyOf(generation, capacity);
+            }
+            entity = nextId++;
+        }
+
+        int index = archetypeIndex(mask);
+        archetypeOf[entity] = index;
+        rowOf[entity] = archetypes.get(index).add(entity);
+        entityCount++;
+        return entity;
+    }
+
+    /**
+     * Queue an entity for destruction at the next {@link #flush()}
+     */
+    public void destroy(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        if (pendingCount == pendingDestroy.length) {
+            pendingDestroy = Arrays.copyOf(pendingDestroy, pendingCount * 2);
+        }
+        pendingDestroy[pendingCount++] = entity;
+    }
+
+    /**
+     * Apply the queued destructions. Call between system runs, never during one.
+     */
+    public void flush() {
+        for (int i = 0; i < pendingCount; i++) {
+            int entity = pendingDestroy[i];
+            if (archetypeOf[entity] < 0) {
+                continue; // Queued twice
+            }
+
+            Archetype archetype = archetypes.get(archetypeOf[entity]);
+            int moved = archetype.removeSwap(rowOf[entity]);
+            if (moved >= 0) {
+                rowOf[moved] = rowOf[entity];
+            }
+
+            archetypeOf[entity] = -1;
+            generation[entity]++;
+            if (freeCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+            }
+            freeIds[freeCount++] = entity;
+            entityCount--;
+        }
+        pendingCount = 0;
+    }
+
+    private int archetypeIndex(int mask) {
+        // Few archetypes exist, a scan beats hashing the mask
+        for (int i = 0; i < archetypes.size(); i++) {
+            if (archetypes.get(i).getMask() == mask) {
+                return i;
+            }
+        }
+        archetypes.add(new Archetype(mask));
+        return archetypes.size() - 1;
+    }
+
+    public boolean isAlive(int entity) {
+        return entity >= 0 && entity < nextId && archetypeOf[entity] >= 0;
+    }
+
+    /**
+     * Generation of the id, incremented every time an entity using it is destroyed
+     */
+    public int getGeneration(int entity) {
+        return generation[entity];
+    }
+
+    public Archetype getArchetype(int entity) {
+        return archetypes.get(archetypeOf[entity]);
+    }
+
+    public int getRow(int entity) {
+        return rowOf[entity];
+    }
+
+    /**
+     * Read-only view of the archetype tables
+     */
+    public List<Archetype> getArchetypes() {
+        return archetypesView;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    public void setPosition(int entity, double x, double y) {
+        Archetype archetype = getArchetype(entity);
+        int row = rowOf[entity];
+        archetype.getX()[row] = x;
+        archetype.getY()[row] = y;
+        archetype.getPreviousX()[row] = x;
+        archetype.getPreviousY()[row] = y;
+    }
+
+    public void setVelocity(int entity, double velocityX, double velocityY) {
+        Archetype archetype = getArchetype(entity);
+        archetype.getVelocityX()[rowOf[entity]] = velocityX;
+        archetype.getVelocityY()[rowOf[entity]] = velocityY;
+    }
+
+    public void setHealth(int entity, int health) {
+        getArchetype(entity).getHealth()[rowOf[entity]] = health;
+    }
+
+    public void setCollider(int entity, double width, double height) {
+        Archetype archetype = getArchetype(entity);
+        archetype.getWidth()[rowOf[entity]] = width;
+        archetype.getHeight()[rowOf[entity]] = height;
+    }
+
+    public void setSprite(int entity, int sprite, int frame) {
+        Archetype archetype = getArchetype(entity);
+        archetype.getSprite()[rowOf[entity]] = sprite;
+        archetype.getFrame()[rowOf[entity]] = frame;
+    }
+}
@@ -0,0 +1,18 @@
+package com.polytech.game.ecs;
+
+/**
+ * EntitySystem
+ * Behaviour applied to every archetype having the required components
+ */
+public interface EntitySystem {
+    /**
+     * Bit mask of the {@link ComponentType}s the system reads or writes
+     */
+    int getRequiredMask();
+
+    /**
+     * Process every row of one matching archetype.
+     * Entities must be destroyed through {@link EntityStore#destroy(int)}, never removed directly.
+     */
+    void update(EntityStore store, Archetype archetype, double deltaTime);
+}
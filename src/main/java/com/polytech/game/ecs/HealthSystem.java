@@ -0,0 +1,26 @@
+package com.polytech.game.ecs;
+
+/**
+ * HealthSystem
+ * Destroys the entities whose health dropped to zero
+ */
+public class HealthSystem implements EntitySystem {
+    private static final int REQUIRED = ComponentType.HEALTH.mask();
+
+    @Override
+    public int getRequiredMask() {
+        return REQUIRED;
+    }
+
+    @Override
+    public void update(EntityStore store, Archetype archetype, double deltaTime) {
+        int[] health = archetype.getHealth();
+        int[] entities = archetype.getEntities();
+        int count = archetype.getCount();
+        for (int i = 0; i < count; i++) {
+            if (health[i] <= 0) {
+                store.destroy(entities[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.polytech.game.ecs;
+
+/**
+ * MovementSystem
+ * Integrates velocity into position, keeping the previous position for interpolation
+ */
+public class MovementSystem implements EntitySystem {
+    private static final int REQUIRED = ComponentType.maskOf(ComponentType.POSITION, ComponentType.VELOCITY);
+
+    @Override
+    public int getRequiredMask() {
+        return REQUIRED;
+    }
+
+    @Override
+    public void update(EntityStore store, Archetype archetype, double deltaTime) {
+        double[] x = archetype.getX();
+        double[] y = archetype.getY();
+        double[] previousX = archetype.getPreviousX();
+        double[] previousY = archetype.getPreviousY();
+        double[] velocityX = archetype.getVelocityX();
+        double[] velocityY = archetype.getVelocityY();
+        int count = archetype.getCount();
+        for (int i = 0; i < count; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+        }
+    }
+}
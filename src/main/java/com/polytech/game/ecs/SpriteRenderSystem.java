@@ -0,0 +1,53 @@
+package com.polytech.game.ecs;
+
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.Sprite;
+import com.polytech.game.render.SpritePainter;
+
+import java.util.List;
+
+/**
+ * SpriteRenderSystem
+ * Draws every entity with a position and a sprite, interpolated between ticks.
+ * Sprites missing from the renderer's atlas are drawn by their fallback painter.
+ */
+public class SpriteRenderSystem {
+    private static final int REQUIRED = ComponentType.maskOf(ComponentType.POSITION, ComponentType.SPRITE);
+    private static final Sprite[] SPRITES = Sprite.values();
+
+    private final SpritePainter[] fallbacks = new SpritePainter[SPRITES.length];
+
+    /**
+     * Vector drawing used when the sprite is not rasterized
+     */
+    public void setFallback(Sprite sprite, SpritePainter painter) {
+        fallbacks[sprite.ordinal()] = painter;
+    }
+
+    public void render(EntityStore store, Renderer renderer, double alpha) {
+        List<Archetype> archetypes = store.getArchetypes();
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            if (!archetype.matches(REQUIRED)) {
+                continue;
+            }
+            for (int i = 0; i < archetype.getCount(); i++) {
+                renderRow(archetype, i, renderer, alpha);
+            }
+        }
+    }
+
+    private void renderRow(Archetype archetype, int row, Renderer renderer, double alpha) {
+        double previousX = archetype.getPreviousX()[row];
+        double previousY = archetype.getPreviousY()[row];
+        double x = previousX + (archetype.getX()[row] - previousX) * alpha;
+        double y = previousY + (archetype.getY()[row] - previousY) * alpha;
+        int sprite = archetype.getSprite()[row];
+        if (!renderer.drawSprite(SPRITES[sprite], archetype.getFrame()[row], x, y)) {
+            SpritePainter fallback = fallbacks[sprite];
+            if (fallback != null) {
+                fallback.paint(renderer, x, y);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.polytech.game.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SystemScheduler
+ * Runs systems in registration order over the matching archetypes,
+ * then applies the destructions they queued
+ */
+public class SystemScheduler {
+    private final List<EntitySystem> systems;
+
+    public SystemScheduler() {
+        this.systems = new ArrayList<>();
+    }
+
+    public void add(EntitySystem system) {
+        systems.add(system);
+    }
+
+    public void update(EntityStore store, double deltaTime) {
+        List<Archetype> archetypes = store.getArchetypes();
+        for (int s = 0; s < systems.size(); s++) {
+            EntitySystem system = systems.get(s);
+            int required = system.getRequiredMask();
+            for (int a = 0; a < archetypes.size(); a++) {
+                Archetype archetype = archetypes.get(a);
+                if (archetype.getCount() > 0 && archetype.matches(required)) {
+                    system.update(store, archetype, deltaTime);
+                }
+            }
+        }
+
+        // Safe point: no system is iterating
+        store.flush();
+    }
+
+    public int getSystemCount() {
+        return systems.size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.polytech.game.engine;
+
+/**
+ * FixedTimestep
+ * Accumulator that turns variable frame times into fixed simulation ticks.
+ *
+ * Each frame adds its real elapsed time with {@link #advance(double)}, which
+ * returns how many ticks of {@link #getStepSeconds()} to simulate. The time
+ * left over is exposed as {@link #getAlpha()} so rendering can interpolate
+ * between the last two simulated states.
+ */
+public class FixedTimestep {
+    private static final double MAX_FRAME_TIME = 0.25; // Ignore longer stalls (debugger, window drag)
+
+    private final double stepSeconds;
+    private final int maxTicksPerFrame;
+    private double accumulator;
+    private long tickCount;
+
+    public FixedTimestep(double ticksPerSecond, int maxTicksPerFrame) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + ticksPerSecond);
+        }
+        if (maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Max ticks per frame must be positive: " + maxTicksPerFrame);
+        }
+        this.stepSeconds = 1.0 / ticksPerSecond;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Add real elapsed time and get the number of ticks to simulate this frame
+     */
+    public int advance(double frameSeconds) {
+        accumulator += Math.min(Math.max(frameSeconds, 0), MAX_FRAME_TIME);
+
+        int ticks = 0;
+        while (accumulator >= stepSeconds && ticks < maxTicksPerFrame) {
+            accumulator -= stepSeconds;
+            ticks++;
+        }
+
+        // Too far behind: drop the backlog instead of spiralling
+        if (accumulator >= stepSeconds) {
+            accumulator %= stepSeconds;
+        }
+
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * Fraction of a tick accumulated but not yet simulated (0 to 1)
+     */
+    public double getAlpha() {
+        return accumulator / stepSeconds;
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+}
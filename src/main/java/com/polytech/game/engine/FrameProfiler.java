@@ -0,0 +1,242 @@
+package com.polytech.game.engine;
+
+import com.polytech.game.patterns.singleton.GameLogger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * FrameProfiler
+ * Records how long each phase of a frame takes, into one
+ * {@link LatencyHistogram} per {@link ProfilePhase}.
+ *
+ * Timings are collected in windows of game.profile.window seconds. When a
+ * window ends, its histograms are kept for display (the overlay reads them)
+ * and, if game.profile.csv names a file, appended to it as one CSV row per
+ * phase: window start, phase, sample count, mean, p50, p99, p99.9 and max in
+ * microseconds, and the number of samples over the 16.6 ms frame budget.
+ *
+ * Timing a phase costs two System.nanoTime() calls and a histogram increment.
+ * Meant to be used from the game thread only.
+ */
+public final class FrameProfiler {
+    // Set to false to turn timing off entirely
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("game.profile", "true"));
+    // Length of a statistics window in seconds
+    private static final double WINDOW_SECONDS = Double.parseDouble(System.getProperty("game.profile.window", "1"));
+    // Set to a file path to append every window's statistics as CSV
+    private static final String CSV_PATH = System.getProperty("game.profile.csv");
+
+    /** Time available for one frame at 60 Hz */
+    public static final long FRAME_BUDGET_NANOS = 16_666_667L;
+
+    private static final ProfilePhase[] PHASES = ProfilePhase.values();
+    private static final String CSV_HEADER =
+            "window_start_ms,phase,count,mean_us,p50_us,p99_us,p999_us,max_us,over_budget";
+
+    private static FrameProfiler instance;
+
+    private final GameLogger logger;
+    private final long windowNanos;
+    private LatencyHistogram[] current;
+    private LatencyHistogram[] completed;
+    private long[] overBudget;
+    private long[] completedOverBudget;
+    private long firstWindowStart;
+    private long windowStart;
+    private int completedWindows;
+    private boolean enabled;
+    private Writer csv;
+
+    private FrameProfiler() {
+        this.logger = GameLogger.getInstance();
+        this.windowNanos = (long) (WINDOW_SECONDS * 1_000_000_000L);
+        this.current = newHistograms();
+        this.completed = newHistograms();
+        this.overBudget = new long[PHASES.length];
+        this.completedOverBudget = new long[PHASES.length];
+        this.enabled = ENABLED;
+        if (CSV_PATH != null) {
+            openCsv(Paths.get(CSV_PATH));
+        }
+    }
+
+    public static synchronized FrameProfiler getInstance() {
+        if (instance == null) {
+            instance = new FrameProfiler();
+        }
+        return instance;
+    }
+
+    private static LatencyHistogram[] newHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+
+    private void openCsv(Path path) {
+        try {
+            boolean fresh = !Files.exists(path) || Files.size(path) == 0;
+            csv = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+            if (fresh) {
+                csv.write(CSV_HEADER);
+                csv.write('\n');
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot write profiler CSV, export disabled: {}", e.getMessage());
+            csv = null;
+        }
+    }
+
+    /**
+     * Start timing a phase
+     *
+     * @return the start timestamp to pass to {@link #end}, 0 when profiling is off
+     */
+    public long begin() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record the time elapsed since {@link #begin()} for the phase
+     */
+    public void end(ProfilePhase phase, long start) {
+        if (start != 0) {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void record(ProfilePhase phase, long nanos) {
+        int index = phase.ordinal();
+        current[index].record(nanos);
+        if (nanos > FRAME_BUDGET_NANOS) {
+            overBudget[index]++;
+        }
+    }
+
+    /**
+     * Close the current window if it has lasted long enough. Call once per frame.
+     *
+     * @return true if a window was completed
+     */
+    public boolean endFrame(long now) {
+        if (windowStart == 0) {
+            firstWindowStart = now;
+            windowStart = now;
+            return false;
+        }
+        if (now - windowStart < windowNanos) {
+            return false;
+        }
+
+        // Swap the buffers: the finished window becomes the displayed one
+        LatencyHistogram[] finished = current;
+        current = completed;
+        completed = finished;
+        long[] finishedOverBudget = overBudget;
+        overBudget = completedOverBudget;
+        completedOverBudget = finishedOverBudget;
+        for (int i = 0; i < PHASES.length; i++) {
+            current[i].reset();
+            overBudget[i] = 0;
+        }
+
+        if (csv != null) {
+            exportCsv((windowStart - firstWindowStart) / 1_000_000);
+        }
+        windowStart = now;
+        completedWindows++;
+        return true;
+    }
+
+    private void exportCsv(long windowStartMillis) {
+        try {
+            StringBuilder rows = new StringBuilder(64 * PHASES.length);
+            for (ProfilePhase phase : PHASES) {
+                LatencyHistogram histogram = completed[phase.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                rows.append(windowStartMillis).append(',')
+                    .append(phase.name()).append(',')
+                    .append(histogram.getCount()).append(',')
+                    .append(micros((long) histogram.getMean())).append(',')
+                    .append(micros(histogram.getValueAtPercentile(50))).append(',')
+                    .append(micros(histogram.getValueAtPercentile(99))).append(',')
+                    .append(micros(histogram.getValueAtPercentile(99.9))).append(',')
+                    .append(micros(histogram.getMax())).append(',')
+                    .append(completedOverBudget[phase.ordinal()]).append('\n');
+            }
+            csv.append(rows);
+            csv.flush();
+        } catch (IOException e) {
+            logger.warn("Profiler CSV export failed, export disabled: {}", e.getMessage());
+            close();
+        }
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0); // '.' decimals whatever the locale
+    }
+
+    /**
+     * Flush and close the CSV export
+     */
+    public void close() {
+        if (csv == null) {
+            return;
+        }
+        try {
+            csv.close();
+        } catch (IOException e) {
+            logger.warn("Cannot close profiler CSV: {}", e.getMessage());
+        }
+        csv = null;
+    }
+
+    /**
+     * Histogram of the window being recorded
+     */
+    public LatencyHistogram getHistogram(ProfilePhase phase) {
+        return current[phase.ordinal()];
+    }
+
+    /**
+     * Histogram of the last completed window
+     */
+    public LatencyHistogram getLastWindow(ProfilePhase phase) {
+        return completed[phase.ordinal()];
+    }
+
+    /**
+     * Samples of the last completed window that exceeded {@link #FRAME_BUDGET_NANOS}
+     */
+    public long getLastWindowOverBudget(ProfilePhase phase) {
+        return completedOverBudget[phase.ordinal()];
+    }
+
+    /**
+     * Number of completed windows, changes whenever the last window is replaced
+     */
+    public int getCompletedWindows() {
+        return completedWindows;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+}
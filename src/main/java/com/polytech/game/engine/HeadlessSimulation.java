@@ -0,0 +1,173 @@
+package com.polytech.game.engine;
+
+import com.polytech.game.entities.Player;
+import com.polytech.game.patterns.singleton.GameContext;
+import com.polytech.game.patterns.singleton.GameLogger;
+import com.polytech.game.patterns.state.PlayerStateMachine;
+import com.polytech.game.patterns.state.PlayingState;
+import com.polytech.game.render.NullRenderer;
+import com.polytech.game.render.Renderer;
+import javafx.scene.input.KeyCode;
+
+/**
+ * HeadlessSimulation
+ * Drives PlayingState at full CPU speed without starting the JavaFX toolkit.
+ *
+ * Used for simulation-only workloads such as load tests, balancing runs and
+ * benchmarks. Each tick advances the game by a fixed step; rendering, when
+ * enabled, goes to a {@link NullRenderer}.
+ *
+ * Usage: HeadlessSimulation [ticks] [tickRate] [--render]
+ */
+public class HeadlessSimulation {
+    private static final double WORLD_WIDTH = 1200;
+    private static final double WORLD_HEIGHT = 900;
+
+    private final GameContext context;
+    private final double stepSeconds;
+    private final Renderer renderer;
+    private PlayingState state;
+    private long tickCount;
+    private int runCount;
+
+    public HeadlessSimulation(double ticksPerSecond, boolean render) {
+        this.context = GameContext.getInstance();
+        this.stepSeconds = 1.0 / ticksPerSecond;
+        this.renderer = render ? new NullRenderer(WORLD_WIDTH, WORLD_HEIGHT) : null;
+    }
+
+    /**
+     * Start a new run with a fresh PlayingState
+     */
+    public PlayingState startRun() {
+        return startRun(new PlayingState(context));
+    }
+
+    /**
+     * Start a new run whose randomness is determined by the seed
+     */
+    public PlayingState startRun(long seed) {
+        return startRun(new PlayingState(context, seed));
+    }
+
+    private PlayingState startRun(PlayingState newState) {
+        state = newState;
+        context.changeState(state);
+        runCount++;
+        return state;
+    }
+
+    /**
+     * Advance the current run by one fixed step
+     *
+     * @return false once the run has ended (victory, game over or quit)
+     */
+    public boolean tick() {
+        if (!isRunning()) {
+            return false;
+        }
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        long start = profiler.begin();
+        state.update(stepSeconds);
+        profiler.end(ProfilePhase.UPDATE, start);
+        if (renderer != null) {
+            start = profiler.begin();
+            context.getCurrentState().render(renderer, 1.0);
+            profiler.end(ProfilePhase.RENDER, start);
+        }
+        tickCount++;
+        return true;
+    }
+
+    /**
+     * Check if the current run is still the active game state
+     */
+    public boolean isRunning() {
+        return state != null && context.getCurrentState() == state;
+    }
+
+    public PlayingState getState() {
+        return state;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public double getStepSeconds() {
+        return stepSeconds;
+    }
+
+    /**
+     * Scripted input: sweep left and right across the screen, firing constantly
+     */
+    private static void autopilot(PlayingState state, long tick) {
+        Player player = state.getPlayer();
+        if (tick % 120 == 0) {
+            state.handleInput((tick / 120) % 2 == 0 ? KeyCode.LEFT : KeyCode.RIGHT);
+        }
+        state.handleInput(KeyCode.SPACE);
+        if (player.getX() <= 30) {
+            state.handleInput(KeyCode.RIGHT);
+        } else if (player.getX() >= 770) {
+            state.handleInput(KeyCode.LEFT);
+        }
+    }
+
+    public static void main(String[] args) {
+        long ticks = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        double tickRate = args.length > 1 ? Double.parseDouble(args[1]) : 60;
+        boolean render = args.length > 2 && "--render".equals(args[2]);
+
+        GameLogger logger = GameLogger.getInstance();
+        HeadlessSimulation simulation = new HeadlessSimulation(tickRate, render);
+
+        long start = System.nanoTime();
+        long runTick = 0;
+        simulation.startRun();
+        while (simulation.getTickCount() < ticks) {
+            if (!simulation.isRunning()) {
+                simulation.startRun();
+                runTick = 0;
+            }
+            autopilot(simulation.getState(), runTick++);
+            simulation.tick();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        // Report on stdout: the result must show up whatever the log threshold is
+        logger.close();
+        System.out.printf("Headless simulation: %d ticks in %.2fs (%.0f ticks/s), %d run(s)%n",
+                simulation.getTickCount(), seconds, simulation.getTickCount() / seconds,
+                simulation.getRunCount());
+
+        PlayerStateMachine machine = simulation.getState().getPlayer().getStateMachine();
+        StringBuilder transitions = new StringBuilder("Player state transitions (last run):");
+        for (int from = 0; from < machine.getStateCount(); from++) {
+            for (int to = 0; to < machine.getStateCount(); to++) {
+                long count = machine.getTransitionCount(from, to);
+                if (count > 0) {
+                    transitions.append(' ').append(machine.getStateName(from)).append("->")
+                            .append(machine.getStateName(to)).append('=').append(count);
+                }
+            }
+        }
+        System.out.println(transitions);
+
+        // No windows are closed here: the histograms cover the whole simulation
+        FrameProfiler profiler = FrameProfiler.getInstance();
+        for (ProfilePhase phase : ProfilePhase.values()) {
+            LatencyHistogram histogram = profiler.getHistogram(phase);
+            if (histogram.getCount() > 0) {
+                System.out.printf("%-10s n=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                        phase, histogram.getCount(), histogram.getValueAtPercentile(50) / 1000.0,
+                        histogram.getValueAtPercentile(99) / 1000.0,
+                        histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0);
+            }
+        }
+    }
+}
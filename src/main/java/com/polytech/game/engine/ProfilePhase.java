@@ -0,0 +1,13 @@
+package com.polytech.game.engine;
+
+/**
+ * Phases of a frame timed by the {@link FrameProfiler}.
+ * UPDATE covers one simulation tick, COLLISIONS included.
+ */
+public enum ProfilePhase {
+    INPUT,
+    UPDATE,
+    COLLISIONS,
+    RENDER,
+    FRAME
+}
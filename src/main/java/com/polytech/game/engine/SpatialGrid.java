@@ -0,0 +1,184 @@
+package com.polytech.game.engine;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SpatialGrid
+ * Uniform-grid broadphase for collision detection.
+ *
+ * Items are inserted with their axis-aligned bounds, then {@link #build()}
+ * buckets them into fixed-size cells with a counting sort. Queries only visit
+ * the cells overlapped by the query box, so a bullet is tested against the
+ * handful of entities around it instead of the whole level.
+ *
+ * The grid is meant to be rebuilt once per tick: {@link #clear()} keeps all
+ * backing arrays, so a steady-state rebuild allocates nothing.
+ * Bounds outside the grid area are clamped to the border cells.
+ */
+public class SpatialGrid<T> {
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    private Object[] items;
+    private int[] itemCells; // packed minCol, minRow, maxCol, maxRow per item
+    private int itemCount;
+
+    private final int[] cellStart;
+    private int[] entries;
+    private int entryCount;
+
+    private int[] queryStamp;
+    private int queryId;
+    private boolean built;
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        this.items = new Object[64];
+        this.itemCells = new int[64 * 4];
+        this.cellStart = new int[columns * rows + 1];
+        this.entries = new int[64];
+        this.queryStamp = new int[64];
+    }
+
+    /**
+     * Remove all items, keeping the allocated capacity
+     */
+    public void clear() {
+        Arrays.fill(items, 0, itemCount, null);
+        itemCount = 0;
+        entryCount = 0;
+        built = false;
+    }
+
+    /**
+     * Insert an item with its bounds (top-left corner, width, height)
+     */
+    public void insert(T item, double x, double y, double width, double height) {
+        if (itemCount == items.length) {
+            int capacity = items.length * 2;
+            items = Arrays.copyOf(items, capacity);
+            itemCells = Arrays.copyOf(itemCells, capacity * 4);
+            queryStamp = Arrays.copyOf(queryStamp, capacity);
+        }
+
+        int base = itemCount * 4;
+        itemCells[base] = column(x);
+        itemCells[base + 1] = row(y);
+        itemCells[base + 2] = column(x + width);
+        itemCells[base + 3] = row(y + height);
+        items[itemCount++] = item;
+        built = false;
+    }
+
+    /**
+     * Bucket the inserted items into cells. Must be called before querying.
+     */
+    public void build() {
+        Arrays.fill(cellStart, 0);
+
+        // Count the entries of each cell
+        int total = 0;
+        for (int i = 0; i < itemCount; i++) {
+            int base = i * 4;
+            for (int r = itemCells[base + 1]; r <= itemCells[base + 3]; r++) {
+                for (int c = itemCells[base]; c <= itemCells[base + 2]; c++) {
+                    cellStart[r * columns + c + 1]++;
+                    total++;
+                }
+            }
+        }
+
+        // Prefix sums give the start offset of every cell
+        for (int cell = 1; cell < cellStart.length; cell++) {
+            cellStart[cell] += cellStart[cell - 1];
+        }
+
+        if (entries.length < total) {
+            entries = new int[Math.max(total, entries.length * 2)];
+        }
+
+        // Scatter item indices, using cellStart[cell] as a moving cursor
+        for (int i = 0; i < itemCount; i++) {
+            int base = i * 4;
+            for (int r = itemCells[base + 1]; r <= itemCells[base + 3]; r++) {
+                for (int c = itemCells[base]; c <= itemCells[base + 2]; c++) {
+                    entries[cellStart[r * columns + c]++] = i;
+                }
+            }
+        }
+
+        // The cursors now point at the end of each cell: shift them back
+        System.arraycopy(cellStart, 0, cellStart, 1, cellStart.length - 1);
+        cellStart[0] = 0;
+
+        entryCount = total;
+        built = true;
+    }
+
+    /**
+     * Collect every item whose cells overlap the given bounds.
+     * Each item is reported once, even if it spans several cells.
+     *
+     * @param out cleared, then filled with the candidates
+     * @return the number of candidates
+     */
+    @SuppressWarnings("unchecked")
+    public int query(double x, double y, double width, double height, List<T> out) {
+        if (!built) {
+            throw new IllegalStateException("SpatialGrid must be built before querying");
+        }
+        out.clear();
+
+        if (++queryId == 0) {
+            // Stamp counter wrapped: reset so stale stamps cannot match
+            Arrays.fill(queryStamp, 0);
+            queryId = 1;
+        }
+
+        int minCol = column(x);
+        int maxCol = column(x + width);
+        int maxRow = row(y + height);
+        for (int r = row(y); r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                int cell = r * columns + c;
+                for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+                    int index = entries[e];
+                    if (queryStamp[index] != queryId) {
+                        queryStamp[index] = queryId;
+                        out.add((T) items[index]);
+                    }
+                }
+            }
+        }
+        return out.size();
+    }
+
+    private int column(double x) {
+        int c = (int) Math.floor(x / cellSize);
+        return c < 0 ? 0 : Math.min(c, columns - 1);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y / cellSize);
+        return r < 0 ? 0 : Math.min(r, rows - 1);
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+}
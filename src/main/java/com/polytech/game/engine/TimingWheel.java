@@ -0,0 +1,205 @@
+package com.polytech.game.engine;
+
+/**
+ * TimingWheel
+ * Hierarchical timing wheel scheduling callbacks on game time.
+ *
+ * Game time is counted in ticks of a fixed resolution. Each level has 64
+ * slots and covers 64 times the span of the level below it. A timer is
+ * linked into the slot of the coarsest level that still distinguishes its
+ * deadline. When a lower level wraps around, the matching slot of the level
+ * above is cascaded down. Scheduling and cancelling are O(1), and advancing
+ * only visits the current slot. This means that polling every timed effect
+ * each frame becomes firing the few that are actually due.
+ *
+ * Timers are intrusive list nodes owned by the caller, so rescheduling an
+ * existing timer allocates nothing. Callbacks run on the thread calling
+ * {@link #advance(double)}. They may schedule or cancel any timer.
+ */
+public class TimingWheel {
+    private static final int LEVEL_BITS = 6;
+    private static final int SLOTS = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = 1L << (LEVEL_BITS * LEVELS);
+
+    private final double resolution;
+    private final Timer[][] slots;
+    private long currentTick;
+    private double accumulator;
+    private int scheduledCount;
+
+    /**
+     * A schedulable callback. Create once, then schedule as often as needed.
+     */
+    public static final class Timer {
+        private final Runnable callback;
+        private long deadline;
+        private int level = -1;
+        private int slot;
+        private Timer previous;
+        private Timer next;
+
+        public Timer(Runnable callback) {
+            this.callback = callback;
+        }
+
+        public boolean isScheduled() {
+            return level >= 0;
+        }
+    }
+
+    /**
+     * @param resolution length of a wheel tick in seconds
+     */
+    public TimingWheel(double resolution) {
+        if (resolution <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        this.resolution = resolution;
+        this.slots = new Timer[LEVELS][SLOTS];
+    }
+
+    /**
+     * Schedule a timer to fire after the given delay, replacing any pending schedule.
+     * Delays are rounded up to whole ticks, with a minimum of one tick.
+     */
+    public void schedule(Timer timer, double delaySeconds) {
+        cancel(timer);
+        // Huge delays saturate instead of overflowing the deadline
+        long ticks = (long) Math.ceil(delaySeconds / resolution - 1e-9);
+        ticks = Math.min(Math.max(1, ticks), Long.MAX_VALUE / 2 - currentTick);
+        timer.deadline = currentTick + ticks;
+        place(timer);
+        scheduledCount++;
+    }
+
+    /**
+     * Cancel a timer. Does nothing if it is not scheduled.
+     */
+    public void cancel(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            scheduledCount--;
+        }
+    }
+
+    /**
+     * Advance game time, firing every timer that falls due
+     */
+    public void advance(double deltaSeconds) {
+        accumulator += deltaSeconds;
+        long ticks = (long) (accumulator / resolution);
+        if (ticks <= 0) {
+            return;
+        }
+        accumulator -= ticks * resolution;
+
+        for (long i = 0; i < ticks; i++) {
+            if (scheduledCount == 0) {
+                // Nothing can fire or cascade: skip the remaining ticks at once
+                currentTick += ticks - i;
+                return;
+            }
+            tick();
+        }
+    }
+
+    /**
+     * Seconds left before the timer fires, or 0 if it is not scheduled
+     */
+    public double getRemainingTime(Timer timer) {
+        if (!timer.isScheduled()) {
+            return 0;
+        }
+        return Math.max(0, (timer.deadline - currentTick) * resolution - accumulator);
+    }
+
+    private void tick() {
+        currentTick++;
+
+        // Cascade from the coarsest level whose lower levels just wrapped around
+        for (int level = LEVELS - 1; level > 0; level--) {
+            long span = 1L << (LEVEL_BITS * level);
+            if ((currentTick & (span - 1)) == 0) {
+                cascade(level, (int) ((currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK));
+            }
+        }
+
+        // Fire the due timers one by one: callbacks may cancel their neighbours
+        int slot = (int) (currentTick & SLOT_MASK);
+        Timer timer;
+        while ((timer = slots[0][slot]) != null) {
+            unlink(timer);
+            scheduledCount--;
+            timer.callback.run();
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Timer timer = slots[level][slot];
+        slots[level][slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.previous = null;
+            timer.next = null;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer) {
+        long delta = timer.deadline - currentTick;
+        long target = timer.deadline;
+        if (delta >= MAX_DELTA) {
+            // Too far for the wheel: park on the top level, re-placed when it cascades
+            target = currentTick + MAX_DELTA - 1;
+            delta = MAX_DELTA - 1;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((target >>> (LEVEL_BITS * level)) & SLOT_MASK);
+
+        Timer head = slots[level][slot];
+        timer.previous = null;
+        timer.next = head;
+        if (head != null) {
+            head.previous = timer;
+        }
+        slots[level][slot] = timer;
+        timer.level = level;
+        timer.slot = slot;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.level = -1;
+    }
+
+    /**
+     * Game time in seconds
+     */
+    public double getTime() {
+        return currentTick * resolution + accumulator;
+    }
+
+    public int getScheduledCount() {
+        return scheduledCount;
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+}
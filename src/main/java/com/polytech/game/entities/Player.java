@@ -1,11 +1,15 @@
 package com.polytech.game.entities;
 
-import com.polytech.game.patterns.composite.Bullet;
+import com.polytech.game.engine.TimingWheel;
+import com.polytech.game.journal.EventJournal;
+import com.polytech.game.logging.LogLevel;
+import com.polytech.game.patterns.composite.PowerUp;
 import com.polytech.game.patterns.decorator.*;
+import com.polytech.game.patterns.pool.BulletPool;
 import com.polytech.game.patterns.singleton.GameLogger;
-import com.polytech.game.patterns.state.IdlePlayerState;
-import com.polytech.game.patterns.state.PlayerState;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.patterns.state.PlayerEvent;
+import com.polytech.game.patterns.state.PlayerStateMachine;
+import com.polytech.game.render.Renderer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -16,37 +20,57 @@ import java.util.List;
  */
 public class Player {
     private GameCharacter character;
-    private PlayerState state;
+    private CharacterStats stats; // Recomputed whenever the decorator chain changes
+    private final PlayerStateMachine stateMachine;
     private final GameLogger logger;
     private final List<PowerUpDecorator> activePowerUps;
-    private final List<Bullet> bullets;
+    private final BulletPool bullets;
+    private String powerUpsLabel; // Cached HUD label, see getActivePowerUpsLabel()
+    private int[] powerUpTenths = new int[4];
+    private boolean powerUpsChanged;
     private double x; // Player's actual position
     private double y;
+    private double previousX; // Position at the previous tick, for interpolation
     private double velocityX = 0;
-    private double shootCooldown = 0;
+    private final TimingWheel timers; // Power-up expiry, shoot cooldown and state timers
+    private final TimingWheel.Timer shootCooldown;
     private static final double SHOOT_COOLDOWN_TIME = 0.3; // seconds between shots
+    private static final double TIMER_RESOLUTION = 1.0 / 120;
     private static final double MAX_SPEED = 300;
     private static final double SCREEN_WIDTH = 800;
+    private static final int BULLET_POOL_CAPACITY = 256;
+    private static final double WIDTH = 40; // Hitbox, matches the drawn character
+    private static final double HEIGHT = 20;
+    // Durations of the power-ups picked up in the level, in seconds
+    private static final double SPEED_BOOST_DURATION = 5.0;
+    private static final double SHIELD_DURATION = 10.0;
+    private static final double FIRE_POWER_DURATION = 8.0;
 
     public Player(double x, double y) {
         this.x = x;
         this.y = y;
+        this.previousX = x;
         this.character = new BaseCharacter(x, y);
-        this.state = new IdlePlayerState();
+        this.stats = CharacterStats.of(character);
         this.logger = GameLogger.getInstance();
         this.activePowerUps = new ArrayList<>();
-        this.bullets = new ArrayList<>();
-        logger.info("Player created at position (" + x + ", " + y + ")");
+        this.bullets = new BulletPool(BULLET_POOL_CAPACITY);
+        this.timers = new TimingWheel(TIMER_RESOLUTION);
+        this.shootCooldown = new TimingWheel.Timer(() -> { });
+        this.stateMachine = new PlayerStateMachine(this);
+        if (logger.isEnabled(LogLevel.INFO)) {
+            logger.info("Player created at position ({}, {})", x, y);
+        }
     }
 
     public void update(double deltaTime) {
+        previousX = x;
+
         // Update player state
-        state.update(this, deltaTime);
+        stateMachine.getState().update(this, deltaTime);
 
-        // Update shoot cooldown
-        if (shootCooldown > 0) {
-            shootCooldown -= deltaTime;
-        }
+        // Fire due timers: cooldowns, state timers and power-up expiry
+        timers.advance(deltaTime);
 
         // Update position based on velocity
         x += velocityX * deltaTime;
@@ -58,91 +82,87 @@ public class Player {
             x = SCREEN_WIDTH - 30;
         }
 
-        // Update the base character's position (unwrap decorators to find it)
-        BaseCharacter baseChar = getBaseCharacter();
+        // Update the base character's position
+        BaseCharacter baseChar = stats.getBaseCharacter();
         if (baseChar != null) {
             baseChar.setX(x);
             baseChar.setY(y);
         }
 
-        // Update bullets
-        List<Bullet> bulletsToRemove = new ArrayList<>();
-        for (Bullet bullet : bullets) {
-            bullet.update();
-            if (!bullet.isActive()) {
-                bulletsToRemove.add(bullet);
-            }
-        }
-        bullets.removeAll(bulletsToRemove);
-
-        // Update power-ups
-        List<PowerUpDecorator> expiredPowerUps = new ArrayList<>();
-        for (PowerUpDecorator powerUp : activePowerUps) {
-            powerUp.update(deltaTime);
-            if (powerUp.isExpired()) {
-                expiredPowerUps.add(powerUp);
-            }
-        }
+        // Update bullets (dead ones are compacted inside the pool)
+        bullets.update(deltaTime);
+    }
 
-        // Remove expired power-ups
-        for (PowerUpDecorator powerUp : expiredPowerUps) {
-            removePowerUp(powerUp);
-        }
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
     }
 
-    public void render(GraphicsContext gc) {
-        character.draw(gc);
+    /**
+     * Render the player between its previous and current tick positions
+     */
+    public void render(Renderer renderer, double alpha) {
+        // Decorators draw around the base character, so move it to the drawn position
+        BaseCharacter baseChar = stats.getBaseCharacter();
+        if (baseChar != null) {
+            baseChar.setX(previousX + (x - previousX) * alpha);
+        }
+        character.draw(renderer);
+        if (baseChar != null) {
+            baseChar.setX(x);
+        }
 
         // Render bullets
-        for (Bullet bullet : bullets) {
-            bullet.render(gc);
+        for (int i = 0; i < bullets.getLiveCount(); i++) {
+            bullets.get(i).render(renderer, alpha);
         }
     }
 
     public void moveLeft() {
-        velocityX = -character.getSpeed();
-        state.handleInput(this, "MOVE_LEFT");
+        velocityX = -stats.getSpeed();
+        stateMachine.fire(PlayerEvent.MOVE_LEFT);
     }
 
     public void moveRight() {
-        velocityX = character.getSpeed();
-        state.handleInput(this, "MOVE_RIGHT");
+        velocityX = stats.getSpeed();
+        stateMachine.fire(PlayerEvent.MOVE_RIGHT);
     }
 
     public void stopMoving() {
         velocityX = 0;
-        state.handleInput(this, "STOP");
+        stateMachine.fire(PlayerEvent.STOP);
     }
 
     public void shoot() {
         // Check cooldown
-        if (shootCooldown > 0) {
+        if (shootCooldown.isScheduled()) {
             return; // Still on cooldown
         }
 
-        state.handleInput(this, "SHOOT");
+        stateMachine.fire(PlayerEvent.SHOOT);
 
         // Create bullet(s) based on fire power
-        int firePower = character.getFirePower();
+        int firePower = stats.getFirePower();
 
         if (firePower == 1) {
             // Single bullet
-            bullets.add(new Bullet(x, y - 15, true, firePower));
+            bullets.acquire(x, y - 15, true, firePower);
         } else if (firePower == 2) {
             // Double bullets (spread)
-            bullets.add(new Bullet(x - 10, y - 15, true, 1));
-            bullets.add(new Bullet(x + 10, y - 15, true, 1));
+            bullets.acquire(x - 10, y - 15, true, 1);
+            bullets.acquire(x + 10, y - 15, true, 1);
         } else {
             // Triple bullets (spread)
-            bullets.add(new Bullet(x - 15, y - 15, true, 1));
-            bullets.add(new Bullet(x, y - 15, true, 1));
-            bullets.add(new Bullet(x + 15, y - 15, true, 1));
+            bullets.acquire(x - 15, y - 15, true, 1);
+            bullets.acquire(x, y - 15, true, 1);
+            bullets.acquire(x + 15, y - 15, true, 1);
         }
 
         // Reset cooldown
-        shootCooldown = SHOOT_COOLDOWN_TIME;
+        timers.schedule(shootCooldown, SHOOT_COOLDOWN_TIME);
 
-        logger.info("Player fired weapon (Fire Power: " + firePower + ", Bullets: " + bullets.size() + ")");
+        if (logger.isEnabled(LogLevel.INFO)) {
+            logger.info("Player fired weapon (Fire Power: {}, Bullets: {})", firePower, bullets.getLiveCount());
+        }
     }
 
     /**
@@ -151,6 +171,27 @@ public class Player {
     public void applyPowerUp(PowerUpDecorator powerUp) {
         character = powerUp;
         activePowerUps.add(powerUp);
+        powerUpsChanged = true;
+        stats = CharacterStats.of(character);
+        assert chainMatchesActivePowerUps() : "Power-up chain out of sync: " + getActivePowerUps();
+        powerUp.scheduleExpiry(timers, () -> removePowerUp(powerUp));
+    }
+
+    /**
+     * Apply the decorator matching a power-up picked up in the level
+     */
+    public void collectPowerUp(PowerUp.PowerUpType type) {
+        switch (type) {
+            case SPEED_BOOST:
+                applyPowerUp(new SpeedBoostDecorator(character, SPEED_BOOST_DURATION));
+                break;
+            case SHIELD:
+                applyPowerUp(new ShieldDecorator(character, SHIELD_DURATION));
+                break;
+            case FIRE_POWER:
+                applyPowerUp(new FirePowerDecorator(character, FIRE_POWER_DURATION));
+                break;
+        }
     }
 
     /**
@@ -173,6 +214,10 @@ public class Player {
         }
         character = decorator;
         activePowerUps.add(decorator);
+        powerUpsChanged = true;
+        stats = CharacterStats.of(character);
+        assert chainMatchesActivePowerUps() : "Power-up chain out of sync: " + getActivePowerUps();
+        decorator.scheduleExpiry(timers, () -> removePowerUp(decorator));
     }
 
     /**
@@ -180,22 +225,22 @@ public class Player {
      */
     private void removePowerUp(PowerUpDecorator powerUp) {
         logger.logDecoratorRemoval(powerUp.getClass().getSimpleName(), "Player");
+        EventJournal.getInstance().decoratorRemoved(powerUp.getClass().getSimpleName());
         activePowerUps.remove(powerUp);
+        powerUpsChanged = true;
 
-        // Unwrap the decorator
-        GameCharacter current = character;
-        while (current instanceof PowerUpDecorator) {
-            PowerUpDecorator decorator = (PowerUpDecorator) current;
-            if (decorator == powerUp) {
-                character = decorator.getDecoratedCharacter();
-                break;
-            }
-            current = decorator.getDecoratedCharacter();
-        }
+        // Unwrap the decorator, keeping the ones applied after it
+        character = PowerUpDecorator.removeFromChain(character, powerUp);
+        stats = CharacterStats.of(character);
+        assert chainMatchesActivePowerUps() : "Power-up chain out of sync: " + getActivePowerUps();
     }
 
-    public void setPlayerState(PlayerState state) {
-        this.state = state;
+    /**
+     * Every listed power-up must be in the decorator chain, or the stats (and
+     * the defense used to absorb hits) would not match the HUD
+     */
+    private boolean chainMatchesActivePowerUps() {
+        return stats.getDepth() == activePowerUps.size();
     }
 
     public void setVelocityX(double velocityX) {
@@ -211,7 +256,8 @@ public class Player {
         for (int i = 0; i < activePowerUps.size(); i++) {
             PowerUpDecorator powerUp = activePowerUps.get(i);
             String name = powerUp.getClass().getSimpleName().replace("Decorator", "");
-            sb.append(name).append(String.format(" (%.1fs)", powerUp.getRemainingTime()));
+            int tenths = (int) Math.round(powerUp.getRemainingTime() * 10);
+            sb.append(name).append(" (").append(tenths / 10).append('.').append(tenths % 10).append("s)");
             if (i < activePowerUps.size() - 1) {
                 sb.append(", ");
             }
@@ -219,6 +265,33 @@ public class Player {
         return sb.toString();
     }
 
+    /**
+     * HUD label for the active power-ups.
+     * The string is only rebuilt when the list changes or a displayed
+     * remaining time moves to the next tenth of a second.
+     */
+    public String getActivePowerUpsLabel() {
+        int count = activePowerUps.size();
+        boolean changed = powerUpsLabel == null || powerUpsChanged;
+        if (powerUpTenths.length < count) {
+            powerUpTenths = new int[Math.max(count, powerUpTenths.length * 2)];
+            changed = true;
+        }
+        for (int i = 0; i < count; i++) {
+            int tenths = (int) Math.round(activePowerUps.get(i).getRemainingTime() * 10);
+            if (tenths != powerUpTenths[i]) {
+                powerUpTenths[i] = tenths;
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            powerUpsLabel = "Active Power-ups: " + getActivePowerUps();
+            powerUpsChanged = false;
+        }
+        return powerUpsLabel;
+    }
+
     public double getX() {
         return x;
     }
@@ -227,33 +300,42 @@ public class Player {
         return y;
     }
 
-    /**
-     * Unwrap decorators to get the base character
-     */
-    private BaseCharacter getBaseCharacter() {
-        GameCharacter current = character;
-        while (current instanceof PowerUpDecorator) {
-            current = ((PowerUpDecorator) current).getDecoratedCharacter();
-        }
-        if (current instanceof BaseCharacter) {
-            return (BaseCharacter) current;
-        }
-        return null;
+    public double getWidth() {
+        return WIDTH;
+    }
+
+    public double getHeight() {
+        return HEIGHT;
     }
 
     public int getFirePower() {
-        return character.getFirePower();
+        return stats.getFirePower();
     }
 
     public double getSpeed() {
-        return character.getSpeed();
+        return stats.getSpeed();
     }
 
     public int getDefense() {
-        return character.getDefense();
+        return stats.getDefense();
+    }
+
+    public CharacterStats getStats() {
+        return stats;
+    }
+
+    public PlayerStateMachine getStateMachine() {
+        return stateMachine;
+    }
+
+    /**
+     * Timing wheel of this player, advanced by {@link #update(double)}
+     */
+    public TimingWheel getTimers() {
+        return timers;
     }
 
-    public List<Bullet> getBullets() {
+    public BulletPool getBullets() {
         return bullets;
     }
 }
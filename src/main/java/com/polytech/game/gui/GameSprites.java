@@ -0,0 +1,51 @@
+package com.polytech.game.gui;
+
+import com.polytech.game.patterns.composite.Bullet;
+import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.PowerUp;
+import com.polytech.game.patterns.decorator.BaseCharacter;
+import com.polytech.game.patterns.decorator.FirePowerDecorator;
+import com.polytech.game.patterns.decorator.ShieldDecorator;
+import com.polytech.game.patterns.decorator.SpeedBoostDecorator;
+import com.polytech.game.render.Sprite;
+import com.polytech.game.render.SpriteAtlas;
+
+/**
+ * GameSprites
+ * Builds the sprite atlas from the vector drawing code of each entity
+ */
+public final class GameSprites {
+    private GameSprites() {
+    }
+
+    /**
+     * Rasterize every entity kind. Must be called on the JavaFX application thread.
+     */
+    public static SpriteAtlas createAtlas() {
+        SpriteAtlas atlas = new SpriteAtlas();
+
+        atlas.register(Sprite.CHARACTER, 0, BaseCharacter::paint);
+        atlas.register(Sprite.ENEMY, 0, (r, x, y) ->
+                Enemy.paint(r, x, y, Sprite.ENEMY.getWidth(), Sprite.ENEMY.getHeight()));
+        atlas.register(Sprite.PLAYER_BULLET, 0, (r, x, y) ->
+                Bullet.paint(r, true, x, y, Sprite.PLAYER_BULLET.getWidth(), Sprite.PLAYER_BULLET.getHeight()));
+        atlas.register(Sprite.ENEMY_BULLET, 0, (r, x, y) ->
+                Bullet.paint(r, false, x, y, Sprite.ENEMY_BULLET.getWidth(), Sprite.ENEMY_BULLET.getHeight()));
+
+        // One frame per step of the pulse animation
+        for (PowerUp.PowerUpType type : PowerUp.PowerUpType.values()) {
+            Sprite sprite = type.getSprite();
+            for (int frame = 0; frame < sprite.getFrameCount(); frame++) {
+                double size = PowerUp.SIZE * PowerUp.pulseScale(frame, sprite.getFrameCount());
+                atlas.register(sprite, frame, (r, x, y) -> PowerUp.paint(r, type, x, y, size));
+            }
+        }
+
+        atlas.register(Sprite.SPEED_TRAIL, 0, SpeedBoostDecorator::paintEffect);
+        atlas.register(Sprite.SHIELD_BUBBLE, 0, ShieldDecorator::paintEffect);
+        atlas.register(Sprite.FIRE_GLOW, 0, FirePowerDecorator::paintEffect);
+
+        atlas.build();
+        return atlas;
+    }
+}
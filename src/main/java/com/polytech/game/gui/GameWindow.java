@@ -1,16 +1,24 @@
 package com.polytech.game.gui;
 
+import com.polytech.game.engine.FixedTimestep;
+import com.polytech.game.engine.FrameProfiler;
+import com.polytech.game.engine.ProfilePhase;
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
+import com.polytech.game.patterns.state.GameState;
+import com.polytech.game.render.CanvasRenderer;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.SpriteAtlas;
+import com.polytech.game.replay.InputRecorder;
 import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
-import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
+import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -23,30 +31,71 @@ public class GameWindow {
     private static final int HEIGHT = 900;
     private static final String TITLE = "Space Invaders - Design Patterns Project";
 
+    // Simulation loop: "fixed" ticks at game.tickRate Hz, "variable" follows the display
+    private static final String LOOP_MODE = System.getProperty("game.loop", "fixed");
+    private static final double TICK_RATE = Double.parseDouble(System.getProperty("game.tickRate", "60"));
+    private static final int MAX_TICKS_PER_FRAME = 8;
+
+    // Set to a directory to save a replay of every run (fixed loop only)
+    private static final String RECORD_DIR = System.getProperty("game.record.dir");
+
+    // Draw entities from the pre-rasterized sprite atlas (false: vector drawing)
+    private static final boolean USE_SPRITES = Boolean.parseBoolean(System.getProperty("game.sprites", "true"));
+
+    // "layered" stacks one canvas per render layer and only redraws dirty layers
+    private static final String RENDER_MODE = System.getProperty("game.render", "single");
+
     private Canvas canvas;
     private GraphicsContext gc;
+    private Renderer renderer;
+    private LayeredCanvas layeredCanvas;
+    private ProfilerOverlay profilerOverlay;
     private final GameContext gameContext;
     private final GameLogger logger;
     private final Set<KeyCode> activeKeys;
+    private final FixedTimestep timestep;
+    private final InputRecorder recorder;
+    private final FrameProfiler profiler;
     private long lastFrameTime;
 
     public GameWindow() {
         this.gameContext = GameContext.getInstance();
         this.logger = GameLogger.getInstance();
         this.activeKeys = new HashSet<>();
+        this.timestep = "variable".equalsIgnoreCase(LOOP_MODE)
+                ? null
+                : new FixedTimestep(TICK_RATE, MAX_TICKS_PER_FRAME);
+        this.recorder = RECORD_DIR != null && timestep != null
+                ? new InputRecorder(Paths.get(RECORD_DIR), TICK_RATE)
+                : null;
+        if (RECORD_DIR != null && recorder == null) {
+            logger.warn("Replay recording needs the fixed game loop; recording disabled");
+        }
+        this.profiler = FrameProfiler.getInstance();
         this.lastFrameTime = System.nanoTime();
     }
 
     public void start(Stage primaryStage) {
         primaryStage.setTitle(TITLE);
 
-        // Create canvas
-        canvas = new Canvas(WIDTH, HEIGHT);
-        gc = canvas.getGraphicsContext2D();
+        SpriteAtlas spriteAtlas = USE_SPRITES ? GameSprites.createAtlas() : null;
+        StackPane root = new StackPane();
+        if ("layered".equalsIgnoreCase(RENDER_MODE)) {
+            layeredCanvas = new LayeredCanvas(WIDTH, HEIGHT, spriteAtlas);
+            root.getChildren().add(layeredCanvas.getPane());
+        } else {
+            // Create canvas
+            canvas = new Canvas(WIDTH, HEIGHT);
+            gc = canvas.getGraphicsContext2D();
+            CanvasRenderer canvasRenderer = new CanvasRenderer(gc);
+            canvasRenderer.setSpriteAtlas(spriteAtlas);
+            renderer = canvasRenderer;
+            root.getChildren().add(canvas);
+        }
+        profilerOverlay = new ProfilerOverlay(WIDTH, HEIGHT, profiler);
+        root.getChildren().add(profilerOverlay.getCanvas());
 
         // Create scene
-        StackPane root = new StackPane();
-        root.getChildren().add(canvas);
         Scene scene = new Scene(root, WIDTH, HEIGHT);
 
         // Set up input handling
@@ -59,7 +108,7 @@ public class GameWindow {
         primaryStage.setResizable(false);
         primaryStage.show();
 
-        logger.info("Game window created: " + WIDTH + "x" + HEIGHT);
+        logger.info("Game window created: {}x{}", WIDTH, HEIGHT);
     }
 
     private void setupInputHandling(Scene scene) {
@@ -67,9 +116,18 @@ public class GameWindow {
         scene.setOnKeyPressed(event -> {
             KeyCode code = event.getCode();
             activeKeys.add(code);
+            if (code == KeyCode.F3) {
+                profilerOverlay.toggle();
+                return;
+            }
 
             // Handle state-specific input
+            long start = profiler.begin();
+            if (recorder != null) {
+                recorder.record(gameContext.getCurrentState(), code);
+            }
             gameContext.getCurrentState().handleInput(code);
+            profiler.end(ProfilePhase.INPUT, start);
         });
 
         // Key released
@@ -82,31 +140,81 @@ public class GameWindow {
         AnimationTimer gameLoop = new AnimationTimer() {
             @Override
             public void handle(long currentTime) {
+                long frameStart = profiler.begin();
+
                 // Calculate delta time in seconds
                 double deltaTime = (currentTime - lastFrameTime) / 1_000_000_000.0;
                 lastFrameTime = currentTime;
 
-                // Cap delta time to prevent large jumps
-                if (deltaTime > 0.1) {
-                    deltaTime = 0.1;
+                if (timestep != null) {
+                    runFixedTicks(deltaTime);
+                } else {
+                    // Cap delta time to prevent large jumps
+                    if (deltaTime > 0.1) {
+                        deltaTime = 0.1;
+                    }
+
+                    // Update game state
+                    long start = profiler.begin();
+                    gameContext.getCurrentState().update(deltaTime);
+                    profiler.end(ProfilePhase.UPDATE, start);
+
+                    // Render game state
+                    renderFrame(1.0);
                 }
 
-                // Update game state
-                gameContext.getCurrentState().update(deltaTime);
-
-                // Render game state
-                clearScreen();
-                gameContext.getCurrentState().render(gc);
+                profiler.end(ProfilePhase.FRAME, frameStart);
+                profiler.endFrame(currentTime);
+                profilerOverlay.refresh();
             }
         };
 
         gameLoop.start();
-        logger.info("Game loop started");
+        logger.info(() -> "Game loop started (" + (timestep != null ? "fixed " + TICK_RATE + " Hz" : "variable") + ")");
+    }
+
+    /**
+     * Run zero or more fixed simulation ticks for this pulse,
+     * then render interpolated between the last two ticks
+     */
+    private void runFixedTicks(double frameTime) {
+        int ticks = timestep.advance(frameTime);
+        for (int i = 0; i < ticks; i++) {
+            // The state may change during a tick, so look it up every time
+            long start = profiler.begin();
+            gameContext.getCurrentState().update(timestep.getStepSeconds());
+            profiler.end(ProfilePhase.UPDATE, start);
+        }
+        if (recorder != null) {
+            recorder.track(gameContext.getCurrentState());
+        }
+
+        renderFrame(timestep.getAlpha());
+    }
+
+    /**
+     * Render the current state. Every state paints its own background,
+     * so the canvas is not cleared beforehand.
+     */
+    private void renderFrame(double alpha) {
+        long start = profiler.begin();
+        GameState state = gameContext.getCurrentState();
+        if (layeredCanvas != null) {
+            layeredCanvas.render(state, alpha);
+        } else {
+            state.render(renderer, alpha);
+        }
+        profiler.end(ProfilePhase.RENDER, start);
     }
 
-    private void clearScreen() {
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, WIDTH, HEIGHT);
+    /**
+     * Release resources when the application stops
+     */
+    public void stop() {
+        if (recorder != null) {
+            recorder.finish();
+        }
+        profiler.close();
     }
 
     public int getWidth() {
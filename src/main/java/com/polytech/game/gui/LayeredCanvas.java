@@ -0,0 +1,75 @@
+package com.polytech.game.gui;
+
+import com.polytech.game.patterns.state.GameState;
+import com.polytech.game.render.CanvasRenderer;
+import com.polytech.game.render.RenderLayer;
+import com.polytech.game.render.SpriteAtlas;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.StackPane;
+
+/**
+ * LayeredCanvas
+ * Compositor stacking one Canvas per {@link RenderLayer}.
+ *
+ * The scene graph composites the layers, so a layer is only cleared and
+ * redrawn when the current state reports it dirty. Every layer is redrawn
+ * once after a state change.
+ */
+public class LayeredCanvas {
+    private final StackPane pane;
+    private final Canvas[] canvases;
+    private final CanvasRenderer[] renderers;
+    private final RenderLayer[] layers;
+    private GameState lastState;
+    private long redrawCount;
+
+    public LayeredCanvas(double width, double height, SpriteAtlas spriteAtlas) {
+        this.layers = RenderLayer.values();
+        this.pane = new StackPane();
+        this.canvases = new Canvas[layers.length];
+        this.renderers = new CanvasRenderer[layers.length];
+        for (int i = 0; i < layers.length; i++) {
+            canvases[i] = new Canvas(width, height);
+            renderers[i] = new CanvasRenderer(canvases[i].getGraphicsContext2D());
+            renderers[i].setSpriteAtlas(spriteAtlas);
+            pane.getChildren().add(canvases[i]);
+        }
+    }
+
+    /**
+     * Redraw the dirty layers of the state
+     */
+    public void render(GameState state, double alpha) {
+        boolean stateChanged = state != lastState;
+        lastState = state;
+
+        for (int i = 0; i < layers.length; i++) {
+            RenderLayer layer = layers[i];
+            if (stateChanged || state.isLayerDirty(layer)) {
+                GraphicsContext gc = canvases[i].getGraphicsContext2D();
+                gc.clearRect(0, 0, canvases[i].getWidth(), canvases[i].getHeight());
+                state.renderLayer(layer, renderers[i], alpha);
+                redrawCount++;
+            }
+        }
+    }
+
+    /**
+     * Force a full redraw on the next frame
+     */
+    public void invalidate() {
+        lastState = null;
+    }
+
+    public StackPane getPane() {
+        return pane;
+    }
+
+    /**
+     * Total number of layer redraws, for comparing with the layer count per frame
+     */
+    public long getRedrawCount() {
+        return redrawCount;
+    }
+}
@@ -0,0 +1,97 @@
+package com.polytech.game.gui;
+
+import com.polytech.game.engine.FrameProfiler;
+import com.polytech.game.engine.LatencyHistogram;
+import com.polytech.game.engine.ProfilePhase;
+import com.polytech.game.render.CanvasRenderer;
+import com.polytech.game.render.ResourceCache;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * ProfilerOverlay
+ * On-screen table of the {@link FrameProfiler}'s last completed window,
+ * toggled with F3.
+ *
+ * The overlay has its own transparent canvas on top of the game, and is only
+ * redrawn when the profiler completes a window. Phases whose p99 exceeds the
+ * frame budget are shown in red, phases with any sample over it in yellow.
+ */
+public class ProfilerOverlay {
+    private static final Font FONT_13 = ResourceCache.font("Monospaced", 13);
+    private static final Color BACKGROUND_COLOR = ResourceCache.color(0, 0, 0, 0.7);
+    private static final ProfilePhase[] PHASES = ProfilePhase.values();
+    private static final double LINE_HEIGHT = 17;
+
+    private final Canvas canvas;
+    private final CanvasRenderer renderer;
+    private final FrameProfiler profiler;
+    private int drawnWindow = -1;
+
+    public ProfilerOverlay(double width, double height, FrameProfiler profiler) {
+        this.canvas = new Canvas(width, height);
+        this.canvas.setMouseTransparent(true);
+        this.canvas.setVisible(false);
+        this.renderer = new CanvasRenderer(canvas.getGraphicsContext2D());
+        this.profiler = profiler;
+    }
+
+    public void toggle() {
+        canvas.setVisible(!canvas.isVisible());
+        drawnWindow = -1; // Redraw as soon as it shows
+    }
+
+    /**
+     * Redraw if visible and a new window was completed. Call once per frame.
+     */
+    public void refresh() {
+        if (!canvas.isVisible() || profiler.getCompletedWindows() == drawnWindow) {
+            return;
+        }
+        drawnWindow = profiler.getCompletedWindows();
+
+        double width = 640;
+        double height = LINE_HEIGHT * (PHASES.length + 2);
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        renderer.setFill(BACKGROUND_COLOR);
+        renderer.fillRect(8, 8, width, height);
+
+        renderer.setFont(FONT_13);
+        renderer.setTextAlign(TextAlignment.LEFT);
+        renderer.setFill(Color.WHITE);
+        renderer.fillText(String.format("%-11s %7s %8s %8s %8s %8s %6s",
+                "phase (ms)", "count", "p50", "p99", "p99.9", "max", "over"), 16, 8 + LINE_HEIGHT);
+
+        for (int i = 0; i < PHASES.length; i++) {
+            LatencyHistogram histogram = profiler.getLastWindow(PHASES[i]);
+            long over = profiler.getLastWindowOverBudget(PHASES[i]);
+            long p99 = histogram.getValueAtPercentile(99);
+            if (p99 > FrameProfiler.FRAME_BUDGET_NANOS) {
+                renderer.setFill(Color.RED);
+            } else if (over > 0) {
+                renderer.setFill(Color.YELLOW);
+            } else {
+                renderer.setFill(Color.LIGHTGREEN);
+            }
+            renderer.fillText(String.format("%-11s %7d %8.3f %8.3f %8.3f %8.3f %6d",
+                    PHASES[i].name(), histogram.getCount(),
+                    millis(histogram.getValueAtPercentile(50)), millis(p99),
+                    millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMax()), over),
+                    16, 8 + LINE_HEIGHT * (i + 2));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    public boolean isVisible() {
+        return canvas.isVisible();
+    }
+}
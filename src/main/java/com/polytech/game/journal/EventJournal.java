@@ -0,0 +1,184 @@
+package com.polytech.game.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Singleton Pattern - EventJournal
+ * Typed binary journal of game events.
+ *
+ * Events are appended as fixed-size records to a memory-mapped segment
+ * file; when a segment is full the journal rolls over to the next one.
+ * Appending is a handful of buffer writes with no formatting, so it is
+ * cheap enough for the game thread. Read journals back with
+ * {@link JournalReader}.
+ *
+ * Disabled unless started with -Dgame.journal=true (directory:
+ * -Dgame.journal.dir, default logs/journal; segment size in records:
+ * -Dgame.journal.segmentRecords, default 65536). When disabled every
+ * append is a no-op.
+ */
+public class EventJournal {
+    private static EventJournal instance;
+
+    private static final boolean ENABLED = Boolean.getBoolean("game.journal");
+    private static final String DIRECTORY = System.getProperty("game.journal.dir", "logs/journal");
+    private static final int SEGMENT_RECORDS = Integer.getInteger("game.journal.segmentRecords", 65536);
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final long sessionId;
+    private final long sessionStartNanos;
+    private final long sessionStartMillis;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int segment;
+    private int recordsInSegment;
+    private boolean enabled;
+
+    private EventJournal(boolean enabled, Path directory, int segmentRecords) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.sessionStartMillis = System.currentTimeMillis();
+        this.sessionStartNanos = System.nanoTime();
+        this.sessionId = sessionStartMillis;
+        this.enabled = enabled;
+
+        if (enabled) {
+            try {
+                Files.createDirectories(directory);
+                openSegment(0);
+                append(GameEventType.SESSION_START, JournalFormat.VERSION, 0, 0);
+                Runtime.getRuntime().addShutdownHook(new Thread(this::close, "game-journal-shutdown"));
+            } catch (IOException e) {
+                System.err.println("Failed to open event journal: " + e.getMessage());
+                this.enabled = false;
+            }
+        }
+    }
+
+    /**
+     * Get the single instance of EventJournal (Singleton Pattern)
+     */
+    public static synchronized EventJournal getInstance() {
+        if (instance == null) {
+            instance = new EventJournal(ENABLED, Paths.get(DIRECTORY), SEGMENT_RECORDS);
+        }
+        return instance;
+    }
+
+    /**
+     * Open a standalone journal, independent of the game's singleton
+     */
+    public static EventJournal open(Path directory, int segmentRecords) {
+        return new EventJournal(true, directory, segmentRecords);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void stateChange(String fromState, String toState) {
+        append(GameEventType.STATE_CHANGE, JournalSymbols.stateCode(fromState), JournalSymbols.stateCode(toState), 0);
+    }
+
+    public void decoratorApplied(String decoratorType) {
+        append(GameEventType.DECORATOR_APPLIED, JournalSymbols.decoratorCode(decoratorType), 0, 0);
+    }
+
+    public void decoratorRemoved(String decoratorType) {
+        append(GameEventType.DECORATOR_REMOVED, JournalSymbols.decoratorCode(decoratorType), 0, 0);
+    }
+
+    public void enemyKilled(int score, double x, double y) {
+        append(GameEventType.ENEMY_KILLED, score, Double.doubleToRawLongBits(x), Double.doubleToRawLongBits(y));
+    }
+
+    public void scoreUpdate(int score) {
+        append(GameEventType.SCORE_UPDATE, score, 0, 0);
+    }
+
+    public void lifeLost(int remainingLives) {
+        append(GameEventType.LIFE_LOST, remainingLives, 0, 0);
+    }
+
+    public void highScore(int score) {
+        append(GameEventType.HIGH_SCORE, score, 0, 0);
+    }
+
+    /**
+     * Append one record, rolling over to a new segment when the current one is full
+     */
+    public synchronized void append(GameEventType type, int a, long b, long c) {
+        if (!enabled) {
+            return;
+        }
+        if (recordsInSegment == segmentRecords) {
+            try {
+                closeSegment();
+                openSegment(segment + 1);
+            } catch (IOException e) {
+                System.err.println("Failed to roll over event journal: " + e.getMessage());
+                enabled = false;
+                return;
+            }
+        }
+
+        int position = JournalFormat.HEADER_SIZE + recordsInSegment * JournalFormat.RECORD_SIZE;
+        buffer.putLong(position, System.nanoTime() - sessionStartNanos);
+        buffer.putInt(position + 8, type.getCode());
+        buffer.putInt(position + 12, a);
+        buffer.putLong(position + 16, b);
+        buffer.putLong(position + 24, c);
+        recordsInSegment++;
+    }
+
+    /**
+     * Flush the current segment to disk and stop journaling
+     */
+    public synchronized void close() {
+        if (!enabled) {
+            return;
+        }
+        enabled = false;
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            System.err.println("Failed to close event journal: " + e.getMessage());
+        }
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    private void openSegment(int index) throws IOException {
+        segment = index;
+        recordsInSegment = 0;
+        Path file = directory.resolve(JournalFormat.fileName(sessionId, index));
+        long size = JournalFormat.HEADER_SIZE + (long) segmentRecords * JournalFormat.RECORD_SIZE;
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        buffer.putInt(0, JournalFormat.MAGIC);
+        buffer.putShort(4, JournalFormat.VERSION);
+        buffer.putShort(6, (short) JournalFormat.RECORD_SIZE);
+        buffer.putLong(8, sessionId);
+        buffer.putLong(16, sessionStartMillis);
+        buffer.putInt(24, index);
+    }
+
+    private void closeSegment() throws IOException {
+        buffer.force();
+        channel.close();
+        buffer = null;
+        channel = null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.polytech.game.journal;
+
+/**
+ * Types of events recorded in the binary game journal.
+ * Codes are part of the file format: never renumber them.
+ */
+public enum GameEventType {
+    /** a = journal format version */
+    SESSION_START(1),
+    /** a = previous state symbol, b = new state symbol (see {@link JournalSymbols}), game or player states */
+    STATE_CHANGE(2),
+    /** a = decorator symbol */
+    DECORATOR_APPLIED(3),
+    /** a = decorator symbol */
+    DECORATOR_REMOVED(4),
+    /** a = score after the kill, b/c = enemy x/y as raw double bits */
+    ENEMY_KILLED(5),
+    /** a = new score */
+    SCORE_UPDATE(6),
+    /** a = remaining lives */
+    LIFE_LOST(7),
+    /** a = new high score */
+    HIGH_SCORE(8);
+
+    private static final GameEventType[] BY_CODE = new GameEventType[16];
+
+    static {
+        for (GameEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    GameEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Get the type of a record code, or null for unknown codes
+     */
+    public static GameEventType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
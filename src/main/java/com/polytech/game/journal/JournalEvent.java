@@ -0,0 +1,79 @@
+package com.polytech.game.journal;
+
+/**
+ * JournalEvent
+ * One decoded journal record
+ */
+public class JournalEvent {
+    private final long sessionId;
+    private final long timeNanos;
+    private final GameEventType type;
+    private final int a;
+    private final long b;
+    private final long c;
+
+    public JournalEvent(long sessionId, long timeNanos, GameEventType type, int a, long b, long c) {
+        this.sessionId = sessionId;
+        this.timeNanos = timeNanos;
+        this.type = type;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Nanoseconds since the start of the session
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public GameEventType getType() {
+        return type;
+    }
+
+    public int getA() {
+        return a;
+    }
+
+    public long getB() {
+        return b;
+    }
+
+    public long getC() {
+        return c;
+    }
+
+    /**
+     * Human-readable form of the payload, depending on the event type
+     */
+    public String describe() {
+        switch (type) {
+            case STATE_CHANGE:
+                return JournalSymbols.stateName(a) + " -> " + JournalSymbols.stateName((int) b);
+            case DECORATOR_APPLIED:
+            case DECORATOR_REMOVED:
+                return JournalSymbols.decoratorName(a);
+            case ENEMY_KILLED:
+                return "score=" + a + " x=" + Double.longBitsToDouble(b) + " y=" + Double.longBitsToDouble(c);
+            case SCORE_UPDATE:
+            case HIGH_SCORE:
+                return "score=" + a;
+            case LIFE_LOST:
+                return "lives=" + a;
+            case SESSION_START:
+                return "version=" + a;
+            default:
+                return "a=" + a + ", b=" + b + ", c=" + c;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sessionId + "," + timeNanos + "," + type + "," + describe();
+    }
+}
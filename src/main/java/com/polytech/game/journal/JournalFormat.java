@@ -0,0 +1,29 @@
+package com.polytech.game.journal;
+
+/**
+ * JournalFormat
+ * Layout of journal segment files (all values big-endian).
+ *
+ * Header (32 bytes): int magic "GJNL", short version, short record size,
+ * long session id, long session start (epoch millis), int segment index,
+ * int reserved.
+ *
+ * Record (32 bytes): long nanoseconds since session start, int event type
+ * code, int a, long b, long c. A record with type 0 marks the end of the
+ * written data (segments are preallocated with zeros).
+ */
+final class JournalFormat {
+    static final int MAGIC = 0x474A4E4C; // "GJNL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 32;
+    static final String FILE_PREFIX = "session-";
+    static final String FILE_SUFFIX = ".gjn";
+
+    private JournalFormat() {
+    }
+
+    static String fileName(long sessionId, int segment) {
+        return String.format("%s%d-%05d%s", FILE_PREFIX, sessionId, segment, FILE_SUFFIX);
+    }
+}
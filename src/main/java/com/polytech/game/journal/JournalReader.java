@@ -0,0 +1,99 @@
+package com.polytech.game.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JournalReader
+ * Offline decoder for journals written by {@link EventJournal}.
+ *
+ * Usage: JournalReader (file|directory)... prints every event as CSV
+ * (session, nanoseconds, type, payload).
+ */
+public final class JournalReader {
+
+    private JournalReader() {
+    }
+
+    /**
+     * Decode one segment file into a stream of events
+     */
+    public static Stream<JournalEvent> read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.limit() < JournalFormat.HEADER_SIZE || buffer.getInt(0) != JournalFormat.MAGIC) {
+            throw new IOException("Not a game journal: " + file);
+        }
+        short version = buffer.getShort(4);
+        if (version != JournalFormat.VERSION) {
+            throw new IOException("Unsupported journal version " + version + ": " + file);
+        }
+        int recordSize = buffer.getShort(6);
+        long sessionId = buffer.getLong(8);
+
+        List<JournalEvent> events = new ArrayList<>();
+        for (int position = JournalFormat.HEADER_SIZE;
+             position + recordSize <= buffer.limit();
+             position += recordSize) {
+            int code = buffer.getInt(position + 8);
+            if (code == 0) {
+                break; // End of written data
+            }
+            GameEventType type = GameEventType.fromCode(code);
+            if (type == null) {
+                continue; // Written by a newer version
+            }
+            events.add(new JournalEvent(sessionId, buffer.getLong(position), type,
+                                        buffer.getInt(position + 12),
+                                        buffer.getLong(position + 16),
+                                        buffer.getLong(position + 24)));
+        }
+        return events.stream();
+    }
+
+    /**
+     * Decode every segment of a directory, in session and segment order
+     */
+    public static Stream<JournalEvent> readDirectory(Path directory) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> listing = Files.list(directory)) {
+            listing.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(JournalFormat.FILE_PREFIX) && name.endsWith(JournalFormat.FILE_SUFFIX);
+            }).sorted().forEach(files::add);
+        }
+        return files.stream().flatMap(file -> {
+            try {
+                return read(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JournalReader (file|directory)...");
+            System.exit(1);
+        }
+        System.out.println("session,nanos,type,payload");
+        for (String arg : args) {
+            Path path = Paths.get(arg);
+            try (Stream<JournalEvent> events = Files.isDirectory(path) ? readDirectory(path) : read(path)) {
+                events.forEach(System.out::println);
+            }
+        }
+    }
+}
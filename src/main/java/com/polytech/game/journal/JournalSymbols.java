@@ -0,0 +1,52 @@
+package com.polytech.game.journal;
+
+/**
+ * JournalSymbols
+ * Fixed integer codes for the names stored in journal records, so records
+ * stay fixed-size. Codes are part of the file format: only append new names.
+ */
+public final class JournalSymbols {
+    public static final int UNKNOWN = -1;
+
+    private static final String[] STATES = {
+        "MENU", "PLAYING", "PAUSED", "GAME_OVER", "VICTORY", "LOADING",
+        // Player states
+        "IDLE", "MOVING", "SHOOTING"
+    };
+
+    private static final String[] DECORATORS = {
+        "SpeedBoostDecorator", "ShieldDecorator", "FirePowerDecorator"
+    };
+
+    private JournalSymbols() {
+    }
+
+    public static int stateCode(String stateName) {
+        return indexOf(STATES, stateName);
+    }
+
+    public static String stateName(int code) {
+        return nameOf(STATES, code);
+    }
+
+    public static int decoratorCode(String decoratorName) {
+        return indexOf(DECORATORS, decoratorName);
+    }
+
+    public static String decoratorName(int code) {
+        return nameOf(DECORATORS, code);
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private static String nameOf(String[] names, int code) {
+        return code >= 0 && code < names.length ? names[code] : "UNKNOWN";
+    }
+}
@@ -0,0 +1,199 @@
+package com.polytech.game.level;
+
+import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.PowerUp;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * LevelCompiler
+ * Converts human-editable level files into the binary {@link LevelFormat}.
+ *
+ * One directive per line, '#' starts a comment:
+ * <pre>
+ * name Level 1
+ * enemy &lt;x&gt; &lt;y&gt; [type] [drop=&lt;power-up&gt;]
+ * grid &lt;columns&gt; &lt;rows&gt; &lt;x&gt; &lt;y&gt; &lt;spacing x&gt; &lt;spacing y&gt; [type] [drop=&lt;power-up&gt;]
+ * powerup &lt;x&gt; &lt;y&gt; &lt;power-up&gt;
+ * </pre>
+ * Types are {@link Enemy.EnemyType} names (GRUNT by default), power-ups are
+ * {@link PowerUp.PowerUpType} names. Grid enemies march together as the level's
+ * formation; single enemies move on their own at their type's speed.
+ *
+ * Usage: LevelCompiler input.txt [output.glvl]
+ */
+public final class LevelCompiler {
+    private String name = "Untitled";
+    private ByteBuffer enemies = ByteBuffer.allocate(64 * LevelFormat.RECORD_SIZE);
+    private ByteBuffer powerUps = ByteBuffer.allocate(16 * LevelFormat.RECORD_SIZE);
+    private int enemyCount;
+    private int powerUpCount;
+
+    private LevelCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: LevelCompiler input.txt [output" + LevelFormat.FILE_SUFFIX + "]");
+            System.exit(2);
+        }
+        Path input = Paths.get(args[0]);
+        Path output;
+        if (args.length == 2) {
+            output = Paths.get(args[1]);
+        } else {
+            String fileName = input.getFileName().toString();
+            int dot = fileName.lastIndexOf('.');
+            output = input.resolveSibling((dot > 0 ? fileName.substring(0, dot) : fileName) + LevelFormat.FILE_SUFFIX);
+        }
+        byte[] compiled = compile(input);
+        Files.write(output, compiled);
+        System.out.println("Compiled " + input + " to " + output + " (" + compiled.length + " bytes)");
+    }
+
+    /**
+     * Compile a level source file
+     */
+    public static byte[] compile(Path source) throws IOException {
+        try (Reader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            return compile(reader, source.getFileName().toString());
+        }
+    }
+
+    /**
+     * Compile level source text (sourceName is only used in error messages)
+     */
+    public static byte[] compile(String text, String sourceName) throws IOException {
+        return compile(new StringReader(text), sourceName);
+    }
+
+    private static byte[] compile(Reader reader, String sourceName) throws IOException {
+        LevelCompiler compiler = new LevelCompiler();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            try {
+                compiler.parseLine(line);
+            } catch (IllegalArgumentException e) {
+                throw new IOException(sourceName + ":" + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return compiler.toBytes();
+    }
+
+    private void parseLine(String line) {
+        int comment = line.indexOf('#');
+        String content = (comment >= 0 ? line.substring(0, comment) : line).strip();
+        if (content.isEmpty()) {
+            return;
+        }
+
+        String[] tokens = content.split("\\s+");
+        switch (tokens[0]) {
+            case "name" -> name = content.substring(4).strip();
+            case "enemy" -> {
+                requireArguments(tokens, 3, 5);
+                Enemy.EnemyType type = Enemy.EnemyType.GRUNT;
+                PowerUp.PowerUpType drop = null;
+                for (int i = 3; i < tokens.length; i++) {
+                    if (tokens[i].startsWith("drop=")) {
+                        drop = PowerUp.PowerUpType.valueOf(tokens[i].substring(5));
+                    } else {
+                        type = Enemy.EnemyType.valueOf(tokens[i]);
+                    }
+                }
+                addEnemy(number(tokens[1]), number(tokens[2]), type, drop, LevelFormat.FLAG_FREE);
+            }
+            case "grid" -> {
+                requireArguments(tokens, 7, 9);
+                int columns = (int) number(tokens[1]);
+                int rows = (int) number(tokens[2]);
+                Enemy.EnemyType type = Enemy.EnemyType.GRUNT;
+                PowerUp.PowerUpType drop = null;
+                for (int i = 7; i < tokens.length; i++) {
+                    if (tokens[i].startsWith("drop=")) {
+                        drop = PowerUp.PowerUpType.valueOf(tokens[i].substring(5));
+                    } else {
+                        type = Enemy.EnemyType.valueOf(tokens[i]);
+                    }
+                }
+                for (int row = 0; row < rows; row++) {
+                    for (int column = 0; column < columns; column++) {
+                        addEnemy(number(tokens[3]) + column * number(tokens[5]),
+                                 number(tokens[4]) + row * number(tokens[6]), type, drop, (short) 0);
+                    }
+                }
+            }
+            case "powerup" -> {
+                requireArguments(tokens, 4, 4);
+                addPowerUp(number(tokens[1]), number(tokens[2]), PowerUp.PowerUpType.valueOf(tokens[3]));
+            }
+            default -> throw new IllegalArgumentException("Unknown directive '" + tokens[0] + "'");
+        }
+    }
+
+    private static void requireArguments(String[] tokens, int min, int max) {
+        if (tokens.length < min || tokens.length > max) {
+            throw new IllegalArgumentException("Wrong number of arguments for '" + tokens[0] + "'");
+        }
+    }
+
+    private static double number(String token) {
+        return Double.parseDouble(token); // NumberFormatException is an IllegalArgumentException
+    }
+
+    private void addEnemy(double x, double y, Enemy.EnemyType type, PowerUp.PowerUpType drop, short flags) {
+        enemies = reserve(enemies);
+        enemies.putFloat((float) x)
+               .putFloat((float) y)
+               .put((byte) type.ordinal())
+               .put((byte) (drop == null ? 0 : drop.ordinal() + 1))
+               .putShort(flags);
+        enemyCount++;
+    }
+
+    private void addPowerUp(double x, double y, PowerUp.PowerUpType type) {
+        powerUps = reserve(powerUps);
+        powerUps.putFloat((float) x)
+                .putFloat((float) y)
+                .put((byte) type.ordinal())
+                .put(new byte[3]);
+        powerUpCount++;
+    }
+
+    private static ByteBuffer reserve(ByteBuffer records) {
+        if (records.remaining() >= LevelFormat.RECORD_SIZE) {
+            return records;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(records.capacity() * 2);
+        return larger.put(records.flip());
+    }
+
+    private byte[] toBytes() {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Level name too long");
+        }
+        ByteBuffer out = ByteBuffer.allocate(LevelFormat.HEADER_SIZE + nameBytes.length
+                                             + enemies.position() + powerUps.position());
+        out.putInt(LevelFormat.MAGIC)
+           .putShort(LevelFormat.VERSION)
+           .putShort((short) nameBytes.length)
+           .putInt(enemyCount)
+           .putInt(powerUpCount)
+           .put(nameBytes)
+           .put(enemies.array(), 0, enemies.position())
+           .put(powerUps.array(), 0, powerUps.position());
+        return out.array();
+    }
+}
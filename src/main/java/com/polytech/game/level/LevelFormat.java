@@ -0,0 +1,29 @@
+package com.polytech.game.level;
+
+/**
+ * LevelFormat
+ * Layout of compiled level files (all values big-endian).
+ *
+ * Header (16 bytes): int magic "GLVL", short version, short name length,
+ * int enemy count, int power-up count. The UTF-8 level name follows the
+ * header, then the enemy records, then the power-up records.
+ *
+ * Enemy record (12 bytes): float x, float y, byte enemy type ordinal,
+ * byte drop (0 for none, power-up type ordinal + 1 otherwise), short flags.
+ * Enemies without {@link #FLAG_FREE} (every enemy of a grid) march with the
+ * level's formation; free enemies move on their own at their type's speed.
+ *
+ * Power-up record (12 bytes): float x, float y, byte power-up type ordinal,
+ * three reserved bytes.
+ */
+final class LevelFormat {
+    static final int MAGIC = 0x474C564C; // "GLVL"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 12;
+    static final short FLAG_FREE = 1;
+    static final String FILE_SUFFIX = ".glvl";
+
+    private LevelFormat() {
+    }
+}
@@ -0,0 +1,141 @@
+package com.polytech.game.level;
+
+import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.Formation;
+import com.polytech.game.patterns.composite.GameLevel;
+import com.polytech.game.patterns.composite.PowerUp;
+import com.polytech.game.patterns.singleton.GameLogger;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * LevelLoader
+ * Builds a GameLevel from a compiled level file (see {@link LevelFormat}).
+ *
+ * Files are memory-mapped and decoded in one pass over fixed-size records:
+ * the level's lists and its formation are sized once from the header, and
+ * a single summary line is logged instead of one line per entity. The grid
+ * enemies of a level join one {@link Formation}; free enemies are spawned in
+ * the level's own swarm and move at their type's speed.
+ */
+public final class LevelLoader {
+    /** Bundled level used when game.level is not set */
+    public static final String DEFAULT_LEVEL = "/levels/level1" + LevelFormat.FILE_SUFFIX;
+
+    private static final Enemy.EnemyType[] ENEMY_TYPES = Enemy.EnemyType.values();
+    private static final PowerUp.PowerUpType[] POWER_UP_TYPES = PowerUp.PowerUpType.values();
+
+    private LevelLoader() {
+    }
+
+    /**
+     * Load the level selected with -Dgame.level (path to a compiled file),
+     * or the bundled first level
+     */
+    public static GameLevel loadDefault() {
+        String path = System.getProperty("game.level");
+        try {
+            return path != null ? load(Paths.get(path)) : loadResource(DEFAULT_LEVEL);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Memory-map a compiled level file and build its level
+     */
+    public static GameLevel load(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return load(buffer, file.toString());
+    }
+
+    /**
+     * Load a compiled level from the classpath (resources inside a jar cannot be mapped)
+     */
+    public static GameLevel loadResource(String name) throws IOException {
+        try (InputStream in = LevelLoader.class.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new FileNotFoundException("Level resource not found: " + name);
+            }
+            return load(ByteBuffer.wrap(in.readAllBytes()), name);
+        }
+    }
+
+    /**
+     * Build a level from compiled level data, read with absolute gets
+     * (the buffer's position is left untouched)
+     *
+     * @param source file or resource name, for messages
+     */
+    public static GameLevel load(ByteBuffer buffer, String source) throws IOException {
+        long start = System.nanoTime();
+        if (buffer.limit() < LevelFormat.HEADER_SIZE || buffer.getInt(0) != LevelFormat.MAGIC) {
+            throw new IOException("Not a compiled level: " + source);
+        }
+        short version = buffer.getShort(4);
+        if (version != LevelFormat.VERSION) {
+            throw new IOException("Unsupported level version " + version + ": " + source);
+        }
+        int nameLength = buffer.getShort(6);
+        int enemyCount = buffer.getInt(8);
+        int powerUpCount = buffer.getInt(12);
+        long size = LevelFormat.HEADER_SIZE + (long) nameLength
+                + ((long) enemyCount + powerUpCount) * LevelFormat.RECORD_SIZE;
+        if (nameLength < 0 || enemyCount < 0 || powerUpCount < 0 || size > buffer.limit()) {
+            throw new IOException("Truncated level file: " + source);
+        }
+
+        byte[] nameBytes = new byte[nameLength];
+        buffer.get(LevelFormat.HEADER_SIZE, nameBytes);
+        GameLevel level = new GameLevel(new String(nameBytes, StandardCharsets.UTF_8));
+        level.ensureCapacity(enemyCount, powerUpCount);
+
+        // Grid enemies march as one block: positions are stored as offsets from a zero origin
+        Formation formation = new Formation(0, 0, Formation.DEFAULT_SPEED, enemyCount);
+        int formationMembers = 0;
+        int position = LevelFormat.HEADER_SIZE + nameLength;
+        for (int i = 0; i < enemyCount; i++, position += LevelFormat.RECORD_SIZE) {
+            int type = buffer.get(position + 8);
+            int drop = buffer.get(position + 9);
+            if (type < 0 || type >= ENEMY_TYPES.length || drop < 0 || drop > POWER_UP_TYPES.length) {
+                throw new IOException("Corrupt enemy record " + i + ": " + source);
+            }
+            float x = buffer.getFloat(position);
+            float y = buffer.getFloat(position + 4);
+            PowerUp.PowerUpType dropType = drop == 0 ? null : POWER_UP_TYPES[drop - 1];
+            if ((buffer.getShort(position + 10) & LevelFormat.FLAG_FREE) != 0) {
+                level.add(level.getEnemySwarm().spawn(x, y, ENEMY_TYPES[type], dropType));
+            } else {
+                level.add(formation.spawn(x, y, ENEMY_TYPES[type], dropType));
+                formationMembers++;
+            }
+        }
+        if (formationMembers > 0) {
+            level.add(formation);
+        }
+        for (int i = 0; i < powerUpCount; i++, position += LevelFormat.RECORD_SIZE) {
+            int type = buffer.get(position + 8);
+            if (type < 0 || type >= POWER_UP_TYPES.length) {
+                throw new IOException("Corrupt power-up record " + i + ": " + source);
+            }
+            level.add(new PowerUp(buffer.getFloat(position), buffer.getFloat(position + 4), POWER_UP_TYPES[type]));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        GameLogger.getInstance().info(() -> String.format("Loaded %s from %s: %d enemies, %d power-ups in %.2f ms",
+                level.getName(), source, enemyCount, powerUpCount, elapsed / 1e6));
+        return level;
+    }
+}
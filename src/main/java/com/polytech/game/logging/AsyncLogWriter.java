@@ -0,0 +1,270 @@
+package com.polytech.game.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AsyncLogWriter
+ * Asynchronous logging pipeline: callers enqueue into a bounded ring buffer
+ * and a background thread formats and writes the entries.
+ *
+ * Ring slots are preallocated and reused. The writer thread takes everything
+ * queued in one batch, formats each line into a reused buffer and flushes its
+ * outputs once per batch, so logging never waits on console or disk I/O
+ * (unless the policy is {@link OverflowPolicy#BLOCK} and the buffer is full).
+ */
+public class AsyncLogWriter {
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Writer console; // flushed, never closed
+    private final Writer file;    // flushed and closed on shutdown
+
+    // Ring buffer, guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final String[] levels;
+    private final String[] messages;
+    private final long[] timestamps;
+    private long head; // sequence of the oldest queued entry
+    private long tail; // sequence of the next entry to fill
+    private long droppedCount;
+    private boolean closed;
+
+    // Writer thread state
+    private final Thread writerThread;
+    private final String[] batchLevels;
+    private final String[] batchMessages;
+    private final long[] batchTimestamps;
+    private final StringBuilder line = new StringBuilder(256);
+    private char[] lineChars = new char[256];
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp = "";
+    private long reportedDrops;
+
+    /**
+     * @param console console output, or null (flushed but never closed)
+     * @param file    file output, or null (closed when the pipeline closes)
+     */
+    public AsyncLogWriter(int capacity, OverflowPolicy overflowPolicy, Writer console, Writer file) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.console = buffered(console);
+        this.file = buffered(file);
+
+        this.levels = new String[capacity];
+        this.messages = new String[capacity];
+        this.timestamps = new long[capacity];
+        this.batchLevels = new String[capacity];
+        this.batchMessages = new String[capacity];
+        this.batchTimestamps = new long[capacity];
+
+        this.writerThread = new Thread(this::runWriter, "game-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Enqueue a log entry; never performs I/O on the calling thread
+     */
+    public void append(String level, String message) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            while (tail - head == capacity && !closed) {
+                if (overflowPolicy == OverflowPolicy.DROP_NEWEST) {
+                    droppedCount++;
+                    return;
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    int oldest = (int) (head++ % capacity);
+                    levels[oldest] = null;
+                    messages[oldest] = null;
+                    droppedCount++;
+                } else {
+                    notFull.awaitUninterruptibly();
+                }
+            }
+            if (closed) {
+                return;
+            }
+
+            int index = (int) (tail++ % capacity);
+            levels[index] = level;
+            messages[index] = message;
+            timestamps[index] = now;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write out everything queued so far, then stop the writer thread
+     */
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Number of entries discarded because the buffer was full
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    private void runWriter() {
+        boolean finished = false;
+        while (!finished) {
+            int count;
+            long drops;
+
+            // Move the whole backlog out of the ring, freeing its slots at once
+            lock.lock();
+            try {
+                while (head == tail && !closed) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                count = (int) (tail - head);
+                for (int i = 0; i < count; i++) {
+                    int index = (int) (head++ % capacity);
+                    batchLevels[i] = levels[index];
+                    batchMessages[i] = messages[index];
+                    batchTimestamps[i] = timestamps[index];
+                    levels[index] = null;
+                    messages[index] = null;
+                }
+                drops = droppedCount;
+                finished = closed;
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            writeBatch(count, drops);
+        }
+
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close log file: " + e.getMessage());
+            }
+        }
+    }
+
+    private void writeBatch(int count, long drops) {
+        if (drops > reportedDrops) {
+            writeLine(System.currentTimeMillis(), "WARN",
+                      (drops - reportedDrops) + " log message(s) dropped: buffer full");
+            reportedDrops = drops;
+        }
+
+        for (int i = 0; i < count; i++) {
+            writeLine(batchTimestamps[i], batchLevels[i], batchMessages[i]);
+            batchLevels[i] = null;
+            batchMessages[i] = null;
+        }
+
+        // One flush per batch instead of one per message
+        flush(console);
+        flush(file);
+    }
+
+    private void writeLine(long timestamp, String level, String message) {
+        line.setLength(0);
+        line.append('[').append(formatTimestamp(timestamp)).append("] [")
+            .append(level).append("] ").append(message).append(System.lineSeparator());
+
+        int length = line.length();
+        if (lineChars.length < length) {
+            lineChars = new char[Math.max(length, lineChars.length * 2)];
+        }
+        line.getChars(0, length, lineChars, 0);
+
+        write(console, length);
+        write(file, length);
+    }
+
+    private void write(Writer output, int length) {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.write(lineChars, 0, length);
+        } catch (IOException e) {
+            System.err.println("Failed to write log entry: " + e.getMessage());
+        }
+    }
+
+    private static void flush(Writer output) {
+        if (output == null) {
+            return;
+        }
+        try {
+            output.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to flush log output: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Format a timestamp to the second, reformatting only when the second changes
+     */
+    private String formatTimestamp(long timestamp) {
+        long second = timestamp / 1000;
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = TIME_FORMAT.format(Instant.ofEpochMilli(timestamp));
+        }
+        return cachedTimestamp;
+    }
+
+    private static Writer buffered(Writer output) {
+        if (output == null || output instanceof BufferedWriter) {
+            return output;
+        }
+        return new BufferedWriter(output, 16 * 1024);
+    }
+}
@@ -0,0 +1,36 @@
+package com.polytech.game.logging;
+
+/**
+ * Severity levels of the game log, from most to least verbose
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Check if a message of this level passes the given threshold
+     */
+    public boolean isEnabledFor(LogLevel threshold) {
+        return this != OFF && compareTo(threshold) >= 0;
+    }
+
+    /**
+     * Map a log label to its level; category labels such as STATE and
+     * DECORATOR are informational
+     */
+    public static LogLevel fromLabel(String label) {
+        switch (label) {
+            case "DEBUG":
+                return DEBUG;
+            case "WARN":
+                return WARN;
+            case "ERROR":
+                return ERROR;
+            default:
+                return INFO;
+        }
+    }
+}
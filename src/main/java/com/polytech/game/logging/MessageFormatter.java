@@ -0,0 +1,28 @@
+package com.polytech.game.logging;
+
+/**
+ * MessageFormatter
+ * Substitutes "{}" placeholders of a log pattern with its arguments.
+ * Only called once a message is known to be logged.
+ */
+public final class MessageFormatter {
+    private static final String PLACEHOLDER = "{}";
+
+    private MessageFormatter() {
+    }
+
+    public static String format(String pattern, Object... args) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 16 * args.length);
+        int start = 0;
+        for (Object arg : args) {
+            int index = pattern.indexOf(PLACEHOLDER, start);
+            if (index < 0) {
+                break;
+            }
+            sb.append(pattern, start, index).append(arg);
+            start = index + PLACEHOLDER.length();
+        }
+        sb.append(pattern, start, pattern.length());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.polytech.game.logging;
+
+/**
+ * What the logging pipeline does when its ring buffer is full
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait for the writer thread to free a slot (no message is lost)
+     */
+    BLOCK,
+
+    /**
+     * Discard the message being logged
+     */
+    DROP_NEWEST,
+
+    /**
+     * Overwrite the oldest message still waiting to be written
+     */
+    DROP_OLDEST
+}
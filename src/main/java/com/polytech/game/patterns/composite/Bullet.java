@@ -1,6 +1,7 @@
 package com.polytech.game.patterns.composite;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
@@ -10,6 +11,7 @@ import javafx.scene.paint.Color;
 public class Bullet implements GameComponent {
     private double x;
     private double y;
+    private double previousY;
     private double width = 4;
     private double height = 12;
     private double speed = 400; // pixels per second
@@ -20,18 +22,33 @@ public class Bullet implements GameComponent {
     public Bullet(double x, double y, boolean playerBullet, int damage) {
         this.x = x;
         this.y = y;
+        this.previousY = y;
+        this.playerBullet = playerBullet;
+        this.damage = damage;
+        this.active = true;
+    }
+
+    /**
+     * Re-initialize a pooled bullet for a new shot
+     */
+    public void reset(double x, double y, boolean playerBullet, int damage) {
+        this.x = x;
+        this.y = y;
+        this.previousY = y;
         this.playerBullet = playerBullet;
         this.damage = damage;
         this.active = true;
     }
 
     @Override
-    public void update() {
+    public void update(double deltaTime) {
+        previousY = y;
+
         // Move bullet
         if (playerBullet) {
-            y -= speed * 0.016; // Move up for player bullets
+            y -= speed * deltaTime; // Move up for player bullets
         } else {
-            y += speed * 0.016; // Move down for enemy bullets
+            y += speed * deltaTime; // Move down for enemy bullets
         }
 
         // Deactivate if off screen
@@ -41,17 +58,33 @@ public class Bullet implements GameComponent {
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
+    }
+
+    @Override
+    public void render(Renderer renderer, double alpha) {
+        double y = previousY + (this.y - previousY) * alpha;
+        if (!renderer.drawSprite(playerBullet ? Sprite.PLAYER_BULLET : Sprite.ENEMY_BULLET, 0, x, y)) {
+            paint(renderer, playerBullet, x, y, width, height);
+        }
+    }
+
+    /**
+     * Vector drawing of a bullet centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paint(Renderer renderer, boolean playerBullet, double x, double y,
+                             double width, double height) {
         if (playerBullet) {
             // Player bullet - cyan/white
-            gc.setFill(Color.CYAN);
-            gc.fillRect(x - width / 2, y - height / 2, width, height);
-            gc.setFill(Color.WHITE);
-            gc.fillRect(x - width / 2 + 1, y - height / 2, width - 2, height / 2);
+            renderer.setFill(Color.CYAN);
+            renderer.fillRect(x - width / 2, y - height / 2, width, height);
+            renderer.setFill(Color.WHITE);
+            renderer.fillRect(x - width / 2 + 1, y - height / 2, width - 2, height / 2);
         } else {
             // Enemy bullet - red
-            gc.setFill(Color.RED);
-            gc.fillOval(x - width / 2, y - height / 2, width, height);
+            renderer.setFill(Color.RED);
+            renderer.fillOval(x - width / 2, y - height / 2, width, height);
         }
     }
 
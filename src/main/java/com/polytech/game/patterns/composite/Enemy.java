@@ -1,53 +1,93 @@
 package com.polytech.game.patterns.composite;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
  * Composite Pattern - Enemy
  * Leaf class representing a single enemy
+ *
+ * The enemy's data lives in one slot of an {@link EnemySwarm}; this object
+ * is a view over that slot. A standalone enemy owns a swarm of its own.
  */
-public class Enemy implements GameComponent {
-    private double x;
-    private double y;
-    private double width = 40;
-    private double height = 30;
-    private boolean active;
-    private int health;
-    private double speed = 50;
+public class Enemy implements EnemyComponent {
+
+    /**
+     * Enemy variants that level files can place. The speed applies to enemies
+     * moving on their own (single enemies of a level file); formation members
+     * follow the formation.
+     */
+    public enum EnemyType {
+        GRUNT(1, EnemySwarm.DEFAULT_SPEED),
+        ARMORED(3, 35),
+        SCOUT(1, 90);
+
+        private final int health;
+        private final double speed;
+
+        EnemyType(int health, double speed) {
+            this.health = health;
+            this.speed = speed;
+        }
+
+        public int getHealth() {
+            return health;
+        }
+
+        public double getSpeed() {
+            return speed;
+        }
+    }
+
+    private final EnemySwarm swarm;
+    private final int slot;
 
     public Enemy(double x, double y) {
-        this.x = x;
-        this.y = y;
-        this.active = true;
-        this.health = 1;
+        this.swarm = new EnemySwarm(1);
+        this.slot = swarm.allocate(x, y);
+    }
+
+    Enemy(EnemySwarm swarm, int slot) {
+        this.swarm = swarm;
+        this.slot = slot;
     }
 
     @Override
-    public void update() {
+    public void update(double deltaTime) {
         // Simple movement pattern
-        x += speed * 0.016; // Assuming ~60 FPS
+        swarm.updateSlot(slot, deltaTime);
+    }
 
-        // Change direction at edges
-        if (x > 750 || x < 50) {
-            speed = -speed;
-            y += 10; // Move down when changing direction
-        }
+    @Override
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
     }
 
     @Override
-    public void render(GraphicsContext gc) {
-        gc.setFill(Color.RED);
-        gc.fillRect(x - width / 2, y - height / 2, width, height);
+    public void render(Renderer renderer, double alpha) {
+        double x = swarm.getInterpolatedX(slot, alpha);
+        double y = swarm.getInterpolatedY(slot, alpha);
+        if (!renderer.drawSprite(Sprite.ENEMY, 0, x, y)) {
+            paint(renderer, x, y, getWidth(), getHeight());
+        }
+    }
+
+    /**
+     * Vector drawing of an enemy centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paint(Renderer renderer, double x, double y, double width, double height) {
+        renderer.setFill(Color.RED);
+        renderer.fillRect(x - width / 2, y - height / 2, width, height);
 
         // Draw eyes
-        gc.setFill(Color.WHITE);
-        gc.fillOval(x - 12, y - 8, 8, 8);
-        gc.fillOval(x + 4, y - 8, 8, 8);
+        renderer.setFill(Color.WHITE);
+        renderer.fillOval(x - 12, y - 8, 8, 8);
+        renderer.fillOval(x + 4, y - 8, 8, 8);
 
-        gc.setFill(Color.BLACK);
-        gc.fillOval(x - 10, y - 6, 4, 4);
-        gc.fillOval(x + 6, y - 6, 4, 4);
+        renderer.setFill(Color.BLACK);
+        renderer.fillOval(x - 10, y - 6, 4, 4);
+        renderer.fillOval(x + 6, y - 6, 4, 4);
     }
 
     @Override
@@ -69,34 +109,70 @@ public class Enemy implements GameComponent {
 
     @Override
     public boolean isActive() {
-        return active && health > 0;
+        return swarm.isActive(slot);
     }
 
     @Override
     public void setActive(boolean active) {
-        this.active = active;
+        swarm.setActive(slot, active);
     }
 
+    @Override
     public void takeDamage(int damage) {
-        health -= damage;
-        if (health <= 0) {
-            active = false;
-        }
+        swarm.takeDamage(slot, damage);
     }
 
+    @Override
     public double getX() {
-        return x;
+        return swarm.getX(slot);
     }
 
+    @Override
     public double getY() {
-        return y;
+        return swarm.getY(slot);
     }
 
+    @Override
     public double getWidth() {
-        return width;
+        return swarm.getWidth(slot);
     }
 
+    @Override
     public double getHeight() {
-        return height;
+        return swarm.getHeight(slot);
+    }
+
+    /**
+     * Power-up left behind when this enemy is destroyed, or null
+     */
+    @Override
+    public PowerUp.PowerUpType getDrop() {
+        return swarm.getDrop(slot);
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Make the level count this enemy while it is alive
+     * (an enemy is counted by the last level it was added to)
+     */
+    void attachTo(GameLevel level) {
+        GameLevel previous = swarm.getLevel(slot);
+        if (previous != null && isActive()) {
+            previous.liveEnemyRemoved();
+        }
+        swarm.setLevel(slot, level);
+        if (isActive()) {
+            level.liveEnemyAdded();
+        }
+    }
+
+    /**
+     * Get the swarm storing this enemy's data
+     */
+    public EnemySwarm getSwarm() {
+        return swarm;
     }
 }
@@ -0,0 +1,30 @@
+package com.polytech.game.patterns.composite;
+
+/**
+ * Composite Pattern - EnemyComponent Interface
+ * Leaf that plays as an enemy: counted by its level until it dies, hit by
+ * the player's bullets and possibly leaving a power-up behind.
+ * Implemented by swarm-backed {@link Enemy} views and by ECS entities.
+ */
+public interface EnemyComponent extends GameComponent {
+    /**
+     * Center of the hitbox
+     */
+    double getX();
+
+    double getY();
+
+    double getWidth();
+
+    double getHeight();
+
+    /**
+     * Apply damage. The enemy turns inactive as soon as its health runs out.
+     */
+    void takeDamage(int damage);
+
+    /**
+     * Power-up left behind when destroyed, or null for none
+     */
+    PowerUp.PowerUpType getDrop();
+}
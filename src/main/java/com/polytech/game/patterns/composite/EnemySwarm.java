@@ -0,0 +1,359 @@
+package com.polytech.game.patterns.composite;
+
+import java.util.Arrays;
+
+/**
+ * Composite Pattern - EnemySwarm
+ * Structure-of-arrays storage for enemies
+ *
+ * Positions, sizes, velocities and health of many enemies live in parallel
+ * primitive arrays, one slot per enemy. {@link #update(double)} moves the whole
+ * swarm with tight loops over those arrays instead of one virtual call per
+ * enemy. {@link Enemy} objects are lightweight views over a single slot, so
+ * the rest of the game keeps using the regular GameComponent API.
+ *
+ * Slots are never reused: a dead enemy keeps its slot until {@link #clear()}.
+ *
+ * Each slot also remembers the {@link GameLevel} it was added to, so that the
+ * level's live enemy count follows deaths as they happen.
+ *
+ * The swarm of a {@link Formation} stores offsets instead of positions: the
+ * formation's origin is added when reading them, and the slots never move.
+ */
+public class EnemySwarm {
+    static final double DEFAULT_WIDTH = 40;
+    static final double DEFAULT_HEIGHT = 30;
+    static final double DEFAULT_SPEED = 50;
+    static final double LEFT_EDGE = 50;
+    static final double RIGHT_EDGE = 750;
+    static final double DROP_DISTANCE = 10;
+
+    private double[] x;
+    private double[] y;
+    private double[] previousX;
+    private double[] previousY;
+    private double[] width;
+    private double[] height;
+    private double[] speed;
+    private int[] health;
+    private boolean[] active;
+    private PowerUp.PowerUpType[] drop;
+    private GameLevel[] level;
+    private int count;
+
+    // Shared transform, only moved by the owning formation
+    private final Formation formation;
+    double originX;
+    double originY;
+    double previousOriginX;
+    double previousOriginY;
+
+    public EnemySwarm(int initialCapacity) {
+        this(initialCapacity, null);
+    }
+
+    EnemySwarm(int initialCapacity, Formation formation) {
+        this.formation = formation;
+        int capacity = Math.max(1, initialCapacity);
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.width = new double[capacity];
+        this.height = new double[capacity];
+        this.speed = new double[capacity];
+        this.health = new int[capacity];
+        this.active = new boolean[capacity];
+        this.drop = new PowerUp.PowerUpType[capacity];
+        this.level = new GameLevel[capacity];
+    }
+
+    /**
+     * Spawn a new enemy in this swarm
+     *
+     * @return a view over the enemy's slot
+     */
+    public Enemy spawn(double x, double y) {
+        return new Enemy(this, allocate(x, y));
+    }
+
+    /**
+     * Spawn a new enemy of the given type, dropping a power-up when destroyed
+     *
+     * @param dropType power-up left behind on death, or null for none
+     * @return a view over the enemy's slot
+     */
+    public Enemy spawn(double x, double y, Enemy.EnemyType type, PowerUp.PowerUpType dropType) {
+        int slot = allocate(x, y);
+        speed[slot] = type.getSpeed();
+        health[slot] = type.getHealth();
+        drop[slot] = dropType;
+        return new Enemy(this, slot);
+    }
+
+    /**
+     * Grow the arrays once so that the given number of enemies can be
+     * spawned without reallocating (used when loading a whole level)
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > x.length) {
+            grow(capacity);
+        }
+    }
+
+    int allocate(double enemyX, double enemyY) {
+        if (count == x.length) {
+            grow(count * 2);
+        }
+        int slot = count++;
+        x[slot] = enemyX;
+        y[slot] = enemyY;
+        previousX[slot] = enemyX;
+        previousY[slot] = enemyY;
+        width[slot] = DEFAULT_WIDTH;
+        height[slot] = DEFAULT_HEIGHT;
+        speed[slot] = DEFAULT_SPEED;
+        health[slot] = 1;
+        active[slot] = true;
+        drop[slot] = null;
+        level[slot] = null;
+        return slot;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        health = Arrays.copyOf(health, capacity);
+        active = Arrays.copyOf(active, capacity);
+        drop = Arrays.copyOf(drop, capacity);
+        level = Arrays.copyOf(level, capacity);
+    }
+
+    /**
+     * Move every enemy of the swarm by one simulation step
+     */
+    public void update(double deltaTime) {
+        final double[] xs = x;
+        final double[] speeds = speed;
+        final int n = count;
+
+        // Keep the last positions for interpolated rendering
+        System.arraycopy(xs, 0, previousX, 0, n);
+        System.arraycopy(y, 0, previousY, 0, n);
+
+        // Movement: branch-free over every slot so the JIT can vectorize it
+        for (int i = 0; i < n; i++) {
+            xs[i] += speeds[i] * deltaTime;
+        }
+
+        // Edge test: reverse and drop the enemies that crossed an edge
+        for (int i = 0; i < n; i++) {
+            if (active[i] && (xs[i] > RIGHT_EDGE || xs[i] < LEFT_EDGE)) {
+                speeds[i] = -speeds[i];
+                y[i] += DROP_DISTANCE;
+            }
+        }
+    }
+
+    /**
+     * Move the slots of [from, to) and record the active ones that crossed an
+     * edge, without reversing them. Ranges that do not overlap can be moved
+     * concurrently; the recorded flips are then applied with {@link #flipAtEdge(int)}.
+     *
+     * @param crossed receives the slots to flip, at least (to - from) long
+     * @return the number of slots written to crossed
+     */
+    int moveRange(int from, int to, double deltaTime, int[] crossed) {
+        final double[] xs = x;
+        final double[] speeds = speed;
+        System.arraycopy(xs, from, previousX, from, to - from);
+        System.arraycopy(y, from, previousY, from, to - from);
+
+        for (int i = from; i < to; i++) {
+            xs[i] += speeds[i] * deltaTime;
+        }
+
+        int crossedCount = 0;
+        for (int i = from; i < to; i++) {
+            if (active[i] && (xs[i] > RIGHT_EDGE || xs[i] < LEFT_EDGE)) {
+                crossed[crossedCount++] = i;
+            }
+        }
+        return crossedCount;
+    }
+
+    /**
+     * Reverse a slot that crossed an edge and move it down
+     */
+    void flipAtEdge(int slot) {
+        speed[slot] = -speed[slot];
+        y[slot] += DROP_DISTANCE;
+    }
+
+    /**
+     * Move a single enemy by one simulation step
+     */
+    void updateSlot(int slot, double deltaTime) {
+        if (formation != null) {
+            return; // Moved as a whole by the formation
+        }
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        x[slot] += speed[slot] * deltaTime;
+
+        // Change direction at edges
+        if (x[slot] > RIGHT_EDGE || x[slot] < LEFT_EDGE) {
+            speed[slot] = -speed[slot];
+            y[slot] += DROP_DISTANCE; // Move down when changing direction
+        }
+    }
+
+    /**
+     * Apply damage to an enemy, deactivating it when its health runs out
+     */
+    void takeDamage(int slot, int damage) {
+        boolean wasActive = isActive(slot);
+        health[slot] -= damage;
+        if (health[slot] <= 0) {
+            active[slot] = false;
+        }
+        if (wasActive && !isActive(slot)) {
+            if (formation != null) {
+                formation.memberRemoved(slot);
+            }
+            if (level[slot] != null) {
+                level[slot].liveEnemyRemoved();
+            }
+        }
+    }
+
+    /**
+     * Remove every enemy (existing views must no longer be used)
+     */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            if (level[i] != null && isActive(i)) {
+                level[i].liveEnemyRemoved();
+            }
+            level[i] = null;
+        }
+        count = 0;
+        if (formation != null) {
+            formation.membersCleared();
+        }
+    }
+
+    /**
+     * Count enemies that are still alive
+     */
+    public int getActiveCount() {
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            if (isActive(i)) {
+                alive++;
+            }
+        }
+        return alive;
+    }
+
+    boolean isActive(int slot) {
+        return active[slot] && health[slot] > 0;
+    }
+
+    void setActive(int slot, boolean value) {
+        boolean wasActive = isActive(slot);
+        active[slot] = value;
+        if (wasActive == isActive(slot)) {
+            return;
+        }
+        if (formation != null) {
+            if (wasActive) {
+                formation.memberRemoved(slot);
+            } else {
+                formation.memberAdded(slot);
+            }
+        }
+        if (level[slot] != null) {
+            if (wasActive) {
+                level[slot].liveEnemyRemoved();
+            } else {
+                level[slot].enemyReactivated(slot, this);
+            }
+        }
+    }
+
+    /**
+     * Level counting this slot among its live enemies, or null
+     */
+    GameLevel getLevel(int slot) {
+        return level[slot];
+    }
+
+    void setLevel(int slot, GameLevel owner) {
+        level[slot] = owner;
+    }
+
+    double getX(int slot) {
+        return originX + x[slot];
+    }
+
+    double getY(int slot) {
+        return originY + y[slot];
+    }
+
+    double getInterpolatedX(int slot, double alpha) {
+        double origin = previousOriginX + (originX - previousOriginX) * alpha;
+        return origin + previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+    }
+
+    double getInterpolatedY(int slot, double alpha) {
+        double origin = previousOriginY + (originY - previousOriginY) * alpha;
+        return origin + previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+    }
+
+    /**
+     * Offset of a slot from the origin (its position for a free swarm)
+     */
+    double getOffsetX(int slot) {
+        return x[slot];
+    }
+
+    double getOffsetY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Formation moving this swarm, or null if its enemies move on their own
+     */
+    public Formation getFormation() {
+        return formation;
+    }
+
+    PowerUp.PowerUpType getDrop(int slot) {
+        return drop[slot];
+    }
+
+    double getWidth(int slot) {
+        return width[slot];
+    }
+
+    double getHeight(int slot) {
+        return height[slot];
+    }
+
+    /**
+     * Number of slots in use (alive or dead)
+     */
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+}
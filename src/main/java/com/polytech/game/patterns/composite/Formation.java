@@ -0,0 +1,374 @@
+package com.polytech.game.patterns.composite;
+
+import com.polytech.game.render.Renderer;
+
+import java.util.Arrays;
+
+/**
+ * Composite Pattern - Formation
+ * A block of enemies marching together under one shared transform
+ *
+ * Members are stored in the formation's own {@link EnemySwarm} as offsets
+ * from the formation origin, so moving the whole block is a single write to
+ * the origin, whatever its size. Edge detection is one check of the bounds
+ * of the live members against the play area.
+ *
+ * The bounds are kept incrementally: live members are counted per distinct
+ * column and row offset, and the outermost non-empty column and row are only
+ * searched again when the last member of the current one dies.
+ *
+ * Only the bottom-most live member of each column may shoot. The shooter of
+ * every column is indexed: members are grouped by column, bottom first, and a
+ * kill only advances the cursor of its own column. The grouping is rebuilt
+ * lazily after members are spawned or revived.
+ *
+ * The formation is added to the level next to its members: it moves them in
+ * its update and draws nothing itself.
+ */
+public class Formation implements GameComponent {
+    public static final double DEFAULT_SPEED = EnemySwarm.DEFAULT_SPEED;
+
+    private final EnemySwarm swarm;
+    private double speed;
+    private boolean active;
+
+    private final Axis columns = new Axis();
+    private final Axis rows = new Axis();
+
+    // Shooter index: slots grouped by column, bottom-most first
+    private int[] columnMembers = new int[0];
+    private int[] columnStart = new int[1];
+    private int[] shooterCursor = new int[0]; // per column, index of its shooter in columnMembers
+    private int[] slotColumn = new int[0];
+    private boolean shootersDirty;
+
+    /**
+     * Live member counts per distinct offset along one axis,
+     * with the indices of the outermost non-empty offsets
+     */
+    private static final class Axis {
+        private double[] offsets = new double[8]; // sorted, distinct
+        private int[] counts = new int[8];
+        private int size;
+        private int first;
+        private int last = -1;
+
+        int indexOf(double offset) {
+            return Arrays.binarySearch(offsets, 0, size, offset);
+        }
+
+        /**
+         * Register an offset, keeping the array sorted
+         */
+        void insert(double offset) {
+            int index = indexOf(offset);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            System.arraycopy(offsets, index, offsets, index + 1, size - index);
+            System.arraycopy(counts, index, counts, index + 1, size - index);
+            offsets[index] = offset;
+            counts[index] = 0;
+            size++;
+            if (index <= last) {
+                last++;
+                if (index <= first) {
+                    first++;
+                }
+            }
+        }
+
+        void increment(double offset) {
+            int index = indexOf(offset);
+            counts[index]++;
+            if (last < first) {
+                first = index;
+                last = index;
+            } else {
+                first = Math.min(first, index);
+                last = Math.max(last, index);
+            }
+        }
+
+        void decrement(double offset) {
+            int index = indexOf(offset);
+            counts[index]--;
+            // Only shrink when an outermost offset ran empty
+            while (first <= last && counts[first] == 0) {
+                first++;
+            }
+            while (last >= first && counts[last] == 0) {
+                last--;
+            }
+        }
+
+        void clear() {
+            size = 0;
+            first = 0;
+            last = -1;
+        }
+
+        boolean isEmpty() {
+            return last < first;
+        }
+
+        double min() {
+            return offsets[first];
+        }
+
+        double max() {
+            return offsets[last];
+        }
+    }
+
+    /**
+     * @param originX initial origin, member offsets are relative to it
+     * @param speed   horizontal speed of the whole formation
+     */
+    public Formation(double originX, double originY, double speed, int initialCapacity) {
+        this.swarm = new EnemySwarm(initialCapacity, this);
+        this.swarm.originX = originX;
+        this.swarm.originY = originY;
+        this.swarm.previousOriginX = originX;
+        this.swarm.previousOriginY = originY;
+        this.speed = speed;
+        this.active = true;
+    }
+
+    /**
+     * Spawn a member at the given offset from the origin
+     *
+     * @param dropType power-up left behind on death, or null for none
+     */
+    public Enemy spawn(double offsetX, double offsetY, Enemy.EnemyType type, PowerUp.PowerUpType dropType) {
+        Enemy enemy = swarm.spawn(offsetX, offsetY, type, dropType);
+        columns.insert(offsetX);
+        rows.insert(offsetY);
+        memberAdded(enemy.getSlot());
+        return enemy;
+    }
+
+    /**
+     * Grow the member storage once for the given number of members
+     */
+    public void ensureCapacity(int capacity) {
+        swarm.ensureCapacity(capacity);
+    }
+
+    void memberAdded(int slot) {
+        columns.increment(swarm.getOffsetX(slot));
+        rows.increment(swarm.getOffsetY(slot));
+        shootersDirty = true;
+    }
+
+    void memberRemoved(int slot) {
+        columns.decrement(swarm.getOffsetX(slot));
+        rows.decrement(swarm.getOffsetY(slot));
+
+        if (!shootersDirty) {
+            // Everything below the shooter is dead: move up to the next live member
+            int column = slotColumn[slot];
+            int end = columnStart[column + 1];
+            int cursor = shooterCursor[column];
+            while (cursor < end && !swarm.isActive(columnMembers[cursor])) {
+                cursor++;
+            }
+            shooterCursor[column] = cursor;
+        }
+    }
+
+    void membersCleared() {
+        columns.clear();
+        rows.clear();
+        shootersDirty = true;
+    }
+
+    /**
+     * Group the members by column with a counting sort, each column ordered bottom first
+     */
+    private void rebuildShooters() {
+        int count = swarm.size();
+        int columnCount = columns.size;
+        if (columnMembers.length < count) {
+            columnMembers = new int[count];
+            slotColumn = new int[count];
+        }
+        if (shooterCursor.length < columnCount) {
+            shooterCursor = new int[columnCount];
+            columnStart = new int[columnCount + 1];
+        }
+
+        Arrays.fill(columnStart, 0, columnCount + 1, 0);
+        for (int slot = 0; slot < count; slot++) {
+            slotColumn[slot] = columns.indexOf(swarm.getOffsetX(slot));
+            columnStart[slotColumn[slot] + 1]++;
+        }
+        for (int column = 0; column < columnCount; column++) {
+            columnStart[column + 1] += columnStart[column];
+            shooterCursor[column] = columnStart[column];
+        }
+        for (int slot = 0; slot < count; slot++) {
+            columnMembers[shooterCursor[slotColumn[slot]]++] = slot;
+        }
+
+        for (int column = 0; column < columnCount; column++) {
+            int start = columnStart[column];
+            int end = columnStart[column + 1];
+            // Insertion sort by descending row: columns are short
+            for (int i = start + 1; i < end; i++) {
+                int slot = columnMembers[i];
+                double offsetY = swarm.getOffsetY(slot);
+                int j = i - 1;
+                while (j >= start && swarm.getOffsetY(columnMembers[j]) < offsetY) {
+                    columnMembers[j + 1] = columnMembers[j];
+                    j--;
+                }
+                columnMembers[j + 1] = slot;
+            }
+
+            int cursor = start;
+            while (cursor < end && !swarm.isActive(columnMembers[cursor])) {
+                cursor++;
+            }
+            shooterCursor[column] = cursor;
+        }
+        shootersDirty = false;
+    }
+
+    /**
+     * Number of columns, including the ones whose members are all dead
+     */
+    public int getColumnCount() {
+        return columns.size;
+    }
+
+    /**
+     * Whether a member of the column is still alive to shoot
+     */
+    public boolean hasShooter(int column) {
+        if (shootersDirty) {
+            rebuildShooters();
+        }
+        return shooterCursor[column] < columnStart[column + 1];
+    }
+
+    /**
+     * Horizontal center of the column's shooter (requires {@link #hasShooter(int)})
+     */
+    public double getShooterX(int column) {
+        if (shootersDirty) {
+            rebuildShooters();
+        }
+        return swarm.getX(columnMembers[shooterCursor[column]]);
+    }
+
+    /**
+     * Bottom edge of the column's shooter, where its bullets start
+     */
+    public double getShooterBottom(int column) {
+        if (shootersDirty) {
+            rebuildShooters();
+        }
+        int slot = columnMembers[shooterCursor[column]];
+        return swarm.getY(slot) + swarm.getHeight(slot) / 2;
+    }
+
+    @Override
+    public void update(double deltaTime) {
+        swarm.previousOriginX = swarm.originX;
+        swarm.previousOriginY = swarm.originY;
+        if (columns.isEmpty()) {
+            return;
+        }
+
+        swarm.originX += speed * deltaTime;
+
+        // Change direction when the outermost live member crosses an edge
+        if (swarm.originX + columns.max() > EnemySwarm.RIGHT_EDGE
+                || swarm.originX + columns.min() < EnemySwarm.LEFT_EDGE) {
+            speed = -speed;
+            swarm.originY += EnemySwarm.DROP_DISTANCE;
+        }
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        // Members are rendered by the level
+    }
+
+    /**
+     * Members are created with {@link #spawn}
+     */
+    @Override
+    public void add(GameComponent component) {
+        throw new UnsupportedOperationException("Formation members are created with spawn()");
+    }
+
+    /**
+     * Deactivate a member, shrinking the bounds if needed
+     */
+    @Override
+    public void remove(GameComponent component) {
+        if (component instanceof Enemy && ((Enemy) component).getSwarm() == swarm) {
+            component.setActive(false);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Formation";
+    }
+
+    /**
+     * A formation stays in the level while it has live members
+     */
+    @Override
+    public boolean isActive() {
+        return active && !columns.isEmpty();
+    }
+
+    @Override
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public EnemySwarm getSwarm() {
+        return swarm;
+    }
+
+    public double getOriginX() {
+        return swarm.originX;
+    }
+
+    public double getOriginY() {
+        return swarm.originY;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Center of the leftmost live member (undefined when none is alive)
+     */
+    public double getMinX() {
+        return swarm.originX + columns.min();
+    }
+
+    public double getMaxX() {
+        return swarm.originX + columns.max();
+    }
+
+    public double getMinY() {
+        return swarm.originY + rows.min();
+    }
+
+    public double getMaxY() {
+        return swarm.originY + rows.max();
+    }
+}
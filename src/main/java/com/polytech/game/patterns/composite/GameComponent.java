@@ -1,6 +1,6 @@
 package com.polytech.game.patterns.composite;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
 
 /**
  * Composite Pattern - GameComponent Interface
@@ -10,13 +10,24 @@ import javafx.scene.canvas.GraphicsContext;
 public interface GameComponent {
     /**
      * Update the component's logic
+     *
+     * @param deltaTime simulated time step in seconds
      */
-    void update();
+    void update(double deltaTime);
 
     /**
      * Render the component
      */
-    void render(GraphicsContext gc);
+    void render(Renderer renderer);
+
+    /**
+     * Render the component between its previous and current simulated positions
+     *
+     * @param alpha interpolation factor, 0 = previous tick, 1 = current tick
+     */
+    default void render(Renderer renderer, double alpha) {
+        render(renderer);
+    }
 
     /**
      * Add a child component (for composite objects)
@@ -1,60 +1,249 @@
 package com.polytech.game.patterns.composite;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Composite Pattern - GameLevel
  * Composite class that can contain multiple game components
  * Represents a level containing enemies, obstacles, power-ups, etc.
+ *
+ * Children are partitioned by type into homogeneous lists, so each update
+ * and render loop only sees one concrete class and per-type counts and
+ * views cost nothing. Enemies that are not swarm views, such as ECS
+ * entities, get a partition of their own.
  */
 public class GameLevel implements GameComponent {
+    // Child count from which update() runs on the fork-join pool (0 disables it).
+    // Off by default on a single core, where chunking only adds overhead.
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger("game.parallel.threshold",
+            ForkJoinPool.getCommonPoolParallelism() > 1 ? 20_000 : 0);
+
     private final String name;
-    private final List<GameComponent> components;
+    private final ArrayList<Enemy> enemies;
+    private final ArrayList<PowerUp> powerUps;
+    private final List<EnemyComponent> otherEnemies;
+    private final List<GameComponent> others;
+    private final List<Enemy> enemiesView;
+    private final List<EnemyComponent> otherEnemiesView;
+    private final List<PowerUp> powerUpsView;
+    private final List<GameComponent> componentsView;
+    private int removedLastUpdate;
+    private int liveEnemies;
+    private int livePowerUps;
+    private final EnemySwarm enemySwarm;
     private boolean active;
+    private int parallelThreshold;
+    private ParallelLevelUpdater parallelUpdater;
 
     public GameLevel(String name) {
         this.name = name;
-        this.components = new ArrayList<>();
+        this.enemies = new ArrayList<>();
+        this.powerUps = new ArrayList<>();
+        this.otherEnemies = new ArrayList<>();
+        this.others = new ArrayList<>();
+        this.enemiesView = Collections.unmodifiableList(enemies);
+        this.otherEnemiesView = Collections.unmodifiableList(otherEnemies);
+        this.powerUpsView = Collections.unmodifiableList(powerUps);
+        this.componentsView = new ComponentsView();
+        this.enemySwarm = new EnemySwarm(64);
         this.active = true;
+        this.parallelThreshold = PARALLEL_THRESHOLD;
     }
 
     @Override
-    public void update() {
-        // Update all child components
-        List<GameComponent> componentsToRemove = new ArrayList<>();
+    public void update(double deltaTime) {
+        if (parallelThreshold > 0 && getComponentCount() >= parallelThreshold) {
+            updateParallel(deltaTime);
+            return;
+        }
 
-        for (GameComponent component : components) {
-            if (component.isActive()) {
-                component.update();
-            } else {
-                componentsToRemove.add(component);
+        // Move all enemies of the level's swarm in one batch
+        enemySwarm.update(deltaTime);
+
+        // The level's own update is the safe point where despawned children are
+        // dropped: each one is swap-removed as the update loop reaches it
+        removedLastUpdate = 0;
+
+        // Update the enemies that move on their own: the level's swarm was moved
+        // above, and formation members are moved by their formation in one step
+        for (int i = 0; i < enemies.size(); ) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isActive()) {
+                swapRemove(enemies, i);
+                continue;
+            }
+            if (movesOnItsOwn(enemy)) {
+                enemy.update(deltaTime);
+            }
+            i++;
+        }
+        for (int i = 0; i < otherEnemies.size(); ) {
+            EnemyComponent enemy = otherEnemies.get(i);
+            if (!enemy.isActive()) {
+                swapRemove(otherEnemies, i);
+                continue;
             }
+            enemy.update(deltaTime);
+            i++;
         }
+        for (int i = 0; i < powerUps.size(); ) {
+            PowerUp powerUp = powerUps.get(i);
+            if (!powerUp.isActive()) {
+                swapRemove(powerUps, i);
+                continue;
+            }
+            powerUp.update(deltaTime);
+            if (!powerUp.isActive()) {
+                livePowerUps--; // Went off screen
+            }
+            i++;
+        }
+        for (int i = 0; i < others.size(); ) {
+            GameComponent component = others.get(i);
+            if (!component.isActive()) {
+                swapRemove(others, i);
+                continue;
+            }
+            component.update(deltaTime);
+            i++;
+        }
+    }
 
-        // Remove inactive components
-        components.removeAll(componentsToRemove);
+    /**
+     * Same result as the sequential update, computed in chunks on the common fork-join pool.
+     * Removed children may end up in a different order than in a sequential update.
+     */
+    private void updateParallel(double deltaTime) {
+        if (parallelUpdater == null) {
+            parallelUpdater = new ParallelLevelUpdater(ForkJoinPool.commonPool());
+        }
+        parallelUpdater.updateSwarm(enemySwarm, deltaTime);
+        removedLastUpdate = parallelUpdater.updateChildren(enemies, this::movesOnItsOwn, deltaTime);
+        removedLastUpdate += parallelUpdater.updateChildren(otherEnemies, enemy -> true, deltaTime);
+        removedLastUpdate += parallelUpdater.updateChildren(powerUps, powerUp -> true, deltaTime);
+        // Power-ups leaving the screen deactivate themselves on the pool's threads: recount them here
+        livePowerUps = 0;
+        for (int i = 0; i < powerUps.size(); i++) {
+            if (powerUps.get(i).isActive()) {
+                livePowerUps++;
+            }
+        }
+        removedLastUpdate += parallelUpdater.updateChildren(others, component -> true, deltaTime);
+    }
+
+    private boolean movesOnItsOwn(Enemy enemy) {
+        EnemySwarm swarm = enemy.getSwarm();
+        return swarm != enemySwarm && swarm.getFormation() == null;
+    }
+
+    /**
+     * Set the child count from which {@link #update(double)} runs in parallel (0 disables it)
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Remove an element in O(1) by moving the last element into its place
+     */
+    private <T> void swapRemove(List<T> list, int index) {
+        int last = list.size() - 1;
+        list.set(index, list.get(last));
+        list.remove(last);
+        removedLastUpdate++;
+    }
+
+    /**
+     * Queue a child for removal. It is deactivated at once, so it stops
+     * colliding and rendering, and leaves the level at its next update.
+     * Safe to call while iterating the level's views.
+     */
+    public void despawn(GameComponent component) {
+        component.setActive(false);
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer, double alpha) {
         // Render all child components
-        for (GameComponent component : components) {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive()) {
+                enemy.render(renderer, alpha);
+            }
+        }
+        for (int i = 0; i < otherEnemies.size(); i++) {
+            EnemyComponent enemy = otherEnemies.get(i);
+            if (enemy.isActive()) {
+                enemy.render(renderer, alpha);
+            }
+        }
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            if (powerUp.isActive()) {
+                powerUp.render(renderer, alpha);
+            }
+        }
+        for (int i = 0; i < others.size(); i++) {
+            GameComponent component = others.get(i);
             if (component.isActive()) {
-                component.render(gc);
+                component.render(renderer, alpha);
             }
         }
     }
 
+    /**
+     * Reserve room for the given number of additional enemies and power-ups,
+     * so that loading a whole level grows the child lists only once
+     */
+    public void ensureCapacity(int enemyCount, int powerUpCount) {
+        enemies.ensureCapacity(enemies.size() + enemyCount);
+        powerUps.ensureCapacity(powerUps.size() + powerUpCount);
+    }
+
     @Override
     public void add(GameComponent component) {
-        components.add(component);
+        if (component instanceof Enemy) {
+            Enemy enemy = (Enemy) component;
+            enemies.add(enemy);
+            enemy.attachTo(this);
+        } else if (component instanceof EnemyComponent) {
+            otherEnemies.add((EnemyComponent) component);
+        } else if (component instanceof PowerUp) {
+            PowerUp powerUp = (PowerUp) component;
+            powerUps.add(powerUp);
+            powerUp.attachTo(this);
+        } else {
+            others.add(component);
+        }
     }
 
+    /**
+     * Remove a child of this level through {@link #despawn(GameComponent)}:
+     * it leaves at the next update, so the views stay stable while iterated
+     */
     @Override
     public void remove(GameComponent component) {
-        components.remove(component);
+        List<? extends GameComponent> list = component instanceof Enemy ? enemies
+                : component instanceof EnemyComponent ? otherEnemies
+                : component instanceof PowerUp ? powerUps
+                : others;
+        if (list.contains(component)) {
+            despawn(component);
+        }
     }
 
     @Override
@@ -73,29 +262,162 @@ public class GameLevel implements GameComponent {
     }
 
     /**
-     * Get all enemies in the level
+     * Get the swarm updated in bulk by this level.
+     * Enemies spawned from it and added to the level are moved by
+     * {@link #update(double)} without a per-enemy update call.
      */
-    public List<GameComponent> getAllEnemies() {
-        List<GameComponent> enemies = new ArrayList<>();
-        for (GameComponent component : components) {
-            if (component.getName().contains("Enemy")) {
-                enemies.add(component);
+    public EnemySwarm getEnemySwarm() {
+        return enemySwarm;
+    }
+
+    /**
+     * Get all enemies in the level (read-only view, not a copy)
+     */
+    public List<? extends GameComponent> getAllEnemies() {
+        return enemiesView;
+    }
+
+    /**
+     * Read-only view of the enemies, updated as the level changes
+     */
+    public List<Enemy> getEnemies() {
+        return enemiesView;
+    }
+
+    /**
+     * Read-only view of the enemies that are not swarm views (such as ECS
+     * entities), updated as the level changes
+     */
+    public List<EnemyComponent> getOtherEnemies() {
+        return otherEnemiesView;
+    }
+
+    /**
+     * Read-only view of the power-ups, updated as the level changes
+     */
+    public List<PowerUp> getPowerUps() {
+        return powerUpsView;
+    }
+
+    /**
+     * Number of live enemies. Unlike the views, it drops as soon as an
+     * enemy dies, before the next update removes it from the level.
+     * Swarm enemies are counted as they die; the other enemies are checked
+     * on each call.
+     */
+    public int getEnemyCount() {
+        int live = liveEnemies;
+        for (int i = 0; i < otherEnemies.size(); i++) {
+            if (otherEnemies.get(i).isActive()) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    void liveEnemyAdded() {
+        liveEnemies++;
+    }
+
+    /**
+     * Called by a swarm when one of this level's enemies dies or is deactivated
+     */
+    void liveEnemyRemoved() {
+        liveEnemies--;
+    }
+
+    /**
+     * Called by a swarm when one of this level's enemies comes back to life.
+     * Only counted while the level still lists it (rare, so a linear search is fine);
+     * an enemy already dropped by an update is detached instead.
+     */
+    void enemyReactivated(int slot, EnemySwarm swarm) {
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.getSwarm() == swarm && enemy.getSlot() == slot) {
+                liveEnemyAdded();
+                return;
             }
         }
-        return enemies;
+        swarm.setLevel(slot, null);
+    }
+
+    /**
+     * Number of active power-ups, updated as soon as one is deactivated
+     * (a power-up leaving the screen is counted out by the update that moves it)
+     */
+    public int getPowerUpCount() {
+        return livePowerUps;
+    }
+
+    void livePowerUpAdded() {
+        livePowerUps++;
+    }
+
+    /**
+     * Called by a power-up of this level when it is deactivated
+     */
+    void livePowerUpRemoved() {
+        livePowerUps--;
+    }
+
+    /**
+     * Called by a power-up of this level when it is reactivated, counted like
+     * a revived enemy: only while the level still lists it
+     */
+    void powerUpReactivated(PowerUp powerUp) {
+        if (powerUps.contains(powerUp)) {
+            livePowerUpAdded();
+        } else {
+            powerUp.setLevel(null);
+        }
     }
 
     /**
      * Get count of components
      */
     public int getComponentCount() {
-        return components.size();
+        return enemies.size() + otherEnemies.size() + powerUps.size() + others.size();
     }
 
     /**
-     * Get all components
+     * Number of children removed by the last update
+     */
+    public int getRemovedLastUpdate() {
+        return removedLastUpdate;
+    }
+
+    /**
+     * Get all components (read-only view, not a copy).
+     * Children stay in the view until the next update, even when despawned.
      */
     public List<GameComponent> getComponents() {
-        return new ArrayList<>(components);
+        return componentsView;
+    }
+
+    /**
+     * Read-only concatenation of the partitions, in enemy, other enemy, power-up, other order
+     */
+    private final class ComponentsView extends AbstractList<GameComponent> {
+        @Override
+        public GameComponent get(int index) {
+            if (index < enemies.size()) {
+                return enemies.get(index);
+            }
+            index -= enemies.size();
+            if (index < otherEnemies.size()) {
+                return otherEnemies.get(index);
+            }
+            index -= otherEnemies.size();
+            if (index < powerUps.size()) {
+                return powerUps.get(index);
+            }
+            return others.get(index - powerUps.size());
+        }
+
+        @Override
+        public int size() {
+            return getComponentCount();
+        }
     }
 }
@@ -0,0 +1,132 @@
+package com.polytech.game.patterns.composite;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Composite Pattern - ParallelLevelUpdater
+ * Fork-join update of a GameLevel's children in fixed-size chunks.
+ *
+ * A chunk only writes to its own entities. The effects the sequential update
+ * applies in place (edge flips of the swarm, removal of inactive children)
+ * are recorded in per-chunk buffers, then applied on the calling thread in
+ * chunk order. Chunk boundaries only depend on the entity count, so the
+ * result is the same whatever the pool size or scheduling.
+ */
+final class ParallelLevelUpdater {
+    static final int CHUNK_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private int[][] buffers;
+    private int[] counts;
+
+    ParallelLevelUpdater(ForkJoinPool pool) {
+        this.pool = pool;
+        this.buffers = new int[0][];
+        this.counts = new int[0];
+    }
+
+    /**
+     * Move every slot of the swarm, then apply the recorded edge flips
+     */
+    void updateSwarm(EnemySwarm swarm, double deltaTime) {
+        int size = swarm.size();
+        int chunks = prepare(size);
+        pool.invoke(new ChunkTask(0, chunks, chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            counts[chunk] = swarm.moveRange(from, Math.min(size, from + CHUNK_SIZE), deltaTime, buffers[chunk]);
+        }));
+
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int[] flips = buffers[chunk];
+            for (int i = 0; i < counts[chunk]; i++) {
+                swarm.flipAtEdge(flips[i]);
+            }
+        }
+    }
+
+    /**
+     * Update the active children accepted by the filter, then swap-remove
+     * the children that were inactive, highest index first
+     *
+     * @return the number of removed children
+     */
+    <T extends GameComponent> int updateChildren(List<T> children, Predicate<? super T> filter, double deltaTime) {
+        int size = children.size();
+        int chunks = prepare(size);
+        pool.invoke(new ChunkTask(0, chunks, chunk -> {
+            int from = chunk * CHUNK_SIZE;
+            int to = Math.min(size, from + CHUNK_SIZE);
+            int[] inactive = buffers[chunk];
+            int inactiveCount = 0;
+            for (int i = from; i < to; i++) {
+                T child = children.get(i);
+                if (!child.isActive()) {
+                    inactive[inactiveCount++] = i;
+                } else if (filter.test(child)) {
+                    child.update(deltaTime);
+                }
+            }
+            counts[chunk] = inactiveCount;
+        }));
+
+        // Descending order: the last element moved into a hole is never a pending removal
+        int removed = 0;
+        for (int chunk = chunks - 1; chunk >= 0; chunk--) {
+            int[] inactive = buffers[chunk];
+            for (int i = counts[chunk] - 1; i >= 0; i--) {
+                int last = children.size() - 1;
+                children.set(inactive[i], children.get(last));
+                children.remove(last);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private int prepare(int size) {
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (buffers.length < chunks) {
+            int previous = buffers.length;
+            buffers = Arrays.copyOf(buffers, chunks);
+            for (int i = previous; i < chunks; i++) {
+                buffers[i] = new int[CHUNK_SIZE];
+            }
+            counts = new int[chunks];
+        }
+        return chunks;
+    }
+
+    /**
+     * Runs the work for every chunk index of [from, to), splitting in halves
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        ChunkTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    work.accept(from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle, work), new ChunkTask(middle, to, work));
+        }
+    }
+}
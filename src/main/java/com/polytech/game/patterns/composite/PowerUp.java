@@ -1,78 +1,116 @@
 package com.polytech.game.patterns.composite;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
 
 /**
  * Composite Pattern - PowerUp
  * Leaf class representing a power-up collectible
  */
 public class PowerUp implements GameComponent {
+    private static final Font FONT_12 = ResourceCache.font("Arial", 12);
+    public static final double SIZE = 30;
+
     private double x;
     private double y;
-    private double width = 30;
-    private double height = 30;
+    private double previousY;
+    private double width = SIZE;
+    private double height = SIZE;
     private boolean active;
     private PowerUpType type;
     private double animationTime = 0;
+    private GameLevel level; // Level counting this power-up while it is active
 
     public enum PowerUpType {
-        SPEED_BOOST(Color.YELLOW),
-        SHIELD(Color.CYAN),
-        FIRE_POWER(Color.ORANGE);
+        SPEED_BOOST(Color.YELLOW, Sprite.POWER_UP_SPEED),
+        SHIELD(Color.CYAN, Sprite.POWER_UP_SHIELD),
+        FIRE_POWER(Color.ORANGE, Sprite.POWER_UP_FIRE);
 
         private final Color color;
+        private final Sprite sprite;
 
-        PowerUpType(Color color) {
+        PowerUpType(Color color, Sprite sprite) {
             this.color = color;
+            this.sprite = sprite;
         }
 
         public Color getColor() {
             return color;
         }
+
+        public Sprite getSprite() {
+            return sprite;
+        }
     }
 
     public PowerUp(double x, double y, PowerUpType type) {
         this.x = x;
         this.y = y;
+        this.previousY = y;
         this.type = type;
         this.active = true;
     }
 
     @Override
-    public void update() {
-        animationTime += 0.016;
+    public void update(double deltaTime) {
+        previousY = y;
+        animationTime += deltaTime;
         // Slowly descend
-        y += 30 * 0.016;
+        y += 30 * deltaTime;
 
-        // Deactivate if off screen
+        // Deactivate if off screen (the level's update accounts for it)
         if (y > 600) {
             active = false;
         }
     }
 
     @Override
-    public void render(GraphicsContext gc) {
-        // Pulsing animation
-        double scale = 1.0 + 0.1 * Math.sin(animationTime * 5);
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
+    }
+
+    @Override
+    public void render(Renderer renderer, double alpha) {
+        double y = previousY + (this.y - previousY) * alpha;
+
+        // Pulsing animation, quantized to the frames of the sprite
+        Sprite sprite = type.getSprite();
+        int frame = (int) Math.round((Math.sin(animationTime * 5) + 1) / 2 * (sprite.getFrameCount() - 1));
+        if (!renderer.drawSprite(sprite, frame, x, y)) {
+            paint(renderer, type, x, y, width * pulseScale(frame, sprite.getFrameCount()));
+        }
+    }
+
+    /**
+     * Scale of a pulse animation frame, between 0.9 and 1.1
+     */
+    public static double pulseScale(int frame, int frameCount) {
+        return 1.0 + 0.1 * (2.0 * frame / (frameCount - 1) - 1);
+    }
 
-        gc.setFill(type.getColor());
-        double size = width * scale;
-        gc.fillOval(x - size / 2, y - size / 2, size, size);
+    /**
+     * Vector drawing of a power-up centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paint(Renderer renderer, PowerUpType type, double x, double y, double size) {
+        renderer.setFill(type.getColor());
+        renderer.fillOval(x - size / 2, y - size / 2, size, size);
 
         // Inner glow
-        gc.setFill(Color.WHITE);
-        gc.fillOval(x - size / 4, y - size / 4, size / 2, size / 2);
+        renderer.setFill(Color.WHITE);
+        renderer.fillOval(x - size / 4, y - size / 4, size / 2, size / 2);
 
         // Draw type indicator
-        gc.setFill(Color.BLACK);
-        gc.setFont(new javafx.scene.text.Font("Arial", 12));
+        renderer.setFill(Color.BLACK);
+        renderer.setFont(FONT_12);
         String symbol = switch (type) {
             case SPEED_BOOST -> "S";
             case SHIELD -> "D";
             case FIRE_POWER -> "F";
         };
-        gc.fillText(symbol, x - 4, y + 4);
+        renderer.fillText(symbol, x - 4, y + 4);
     }
 
     @Override
@@ -97,9 +135,35 @@ public class PowerUp implements GameComponent {
 
     @Override
     public void setActive(boolean active) {
+        if (level != null && active != this.active) {
+            if (active) {
+                level.powerUpReactivated(this);
+            } else {
+                level.livePowerUpRemoved();
+            }
+        }
         this.active = active;
     }
 
+    /**
+     * Make the level count this power-up while it is active
+     * (a power-up is counted by the last level it was added to)
+     */
+    void attachTo(GameLevel owner) {
+        if (level != null && active) {
+            level.livePowerUpRemoved();
+        }
+        level = owner;
+        if (active) {
+            owner.livePowerUpAdded();
+        }
+    }
+
+    void setLevel(GameLevel owner) {
+        level = owner;
+    }
+
+
     public PowerUpType getType() {
         return type;
     }
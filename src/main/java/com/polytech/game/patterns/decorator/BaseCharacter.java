@@ -1,6 +1,7 @@
 package com.polytech.game.patterns.decorator;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
@@ -20,9 +21,18 @@ public class BaseCharacter implements GameCharacter {
     }
 
     @Override
-    public void draw(GraphicsContext gc) {
-        gc.setFill(Color.CYAN);
-        gc.fillRect(x - 20, y - 10, 40, 20);
+    public void draw(Renderer renderer) {
+        if (!renderer.drawSprite(Sprite.CHARACTER, 0, x, y)) {
+            paint(renderer, x, y);
+        }
+    }
+
+    /**
+     * Vector drawing of the character centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paint(Renderer renderer, double x, double y) {
+        renderer.setFill(Color.CYAN);
+        renderer.fillRect(x - 20, y - 10, 40, 20);
     }
 
     @Override
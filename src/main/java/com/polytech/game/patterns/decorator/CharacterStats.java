@@ -0,0 +1,66 @@
+package com.polytech.game.patterns.decorator;
+
+/**
+ * Decorator Pattern - CharacterStats
+ * Flattened snapshot of a decorated character's stats.
+ *
+ * Walking a decorator chain costs one virtual call per layer for every
+ * stat lookup. The snapshot walks it once, when the chain changes, so
+ * reading a stat costs the same whatever the number of active power-ups.
+ */
+public final class CharacterStats {
+    private final double speed;
+    private final int firePower;
+    private final int defense;
+    private final int depth;
+    private final BaseCharacter baseCharacter;
+
+    private CharacterStats(double speed, int firePower, int defense, int depth, BaseCharacter baseCharacter) {
+        this.speed = speed;
+        this.firePower = firePower;
+        this.defense = defense;
+        this.depth = depth;
+        this.baseCharacter = baseCharacter;
+    }
+
+    /**
+     * Compute the stats of a character through its whole decorator chain
+     */
+    public static CharacterStats of(GameCharacter character) {
+        int depth = 0;
+        GameCharacter current = character;
+        while (current instanceof PowerUpDecorator) {
+            current = ((PowerUpDecorator) current).getDecoratedCharacter();
+            depth++;
+        }
+        BaseCharacter base = current instanceof BaseCharacter ? (BaseCharacter) current : null;
+        return new CharacterStats(character.getSpeed(), character.getFirePower(), character.getDefense(),
+                depth, base);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public int getFirePower() {
+        return firePower;
+    }
+
+    public int getDefense() {
+        return defense;
+    }
+
+    /**
+     * Number of decorators wrapping the base character
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * The undecorated character at the end of the chain, or null if it is not a BaseCharacter
+     */
+    public BaseCharacter getBaseCharacter() {
+        return baseCharacter;
+    }
+}
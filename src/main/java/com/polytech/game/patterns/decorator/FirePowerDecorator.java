@@ -1,6 +1,8 @@
 package com.polytech.game.patterns.decorator;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
@@ -8,6 +10,8 @@ import javafx.scene.paint.Color;
  * Increases the character's fire power
  */
 public class FirePowerDecorator extends PowerUpDecorator {
+    private static final Color GLOW_COLOR = ResourceCache.color(1, 0.5, 0, 0.4);
+
     private static final int FIRE_POWER_BONUS = 2;
 
     public FirePowerDecorator(GameCharacter character, double duration) {
@@ -35,12 +39,21 @@ public class FirePowerDecorator extends PowerUpDecorator {
     }
 
     @Override
-    protected void drawPowerUpEffect(GraphicsContext gc) {
-        // Draw fire power effect (orange glow)
-        gc.setFill(Color.color(1, 0.5, 0, 0.4));
+    protected void drawPowerUpEffect(Renderer renderer) {
         if (decoratedCharacter instanceof BaseCharacter) {
             BaseCharacter base = (BaseCharacter) decoratedCharacter;
-            gc.fillRect(base.getX() - 22, base.getY() - 12, 44, 24);
+            if (!renderer.drawSprite(Sprite.FIRE_GLOW, 0, base.getX(), base.getY())) {
+                paintEffect(renderer, base.getX(), base.getY());
+            }
         }
     }
+
+    /**
+     * Vector drawing of the effect centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paintEffect(Renderer renderer, double x, double y) {
+        // Draw fire power effect (orange glow)
+        renderer.setFill(GLOW_COLOR);
+        renderer.fillRect(x - 22, y - 12, 44, 24);
+    }
 }
@@ -1,6 +1,6 @@
 package com.polytech.game.patterns.decorator;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
 
 /**
  * Decorator Pattern - GameCharacter Interface
@@ -11,7 +11,7 @@ public interface GameCharacter {
     /**
      * Draw the character
      */
-    void draw(GraphicsContext gc);
+    void draw(Renderer renderer);
 
     /**
      * Get character's current speed
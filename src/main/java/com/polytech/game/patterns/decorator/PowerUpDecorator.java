@@ -1,7 +1,10 @@
 package com.polytech.game.patterns.decorator;
 
+import com.polytech.game.engine.TimingWheel;
+import com.polytech.game.journal.EventJournal;
+import com.polytech.game.logging.LogLevel;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
 
 /**
  * Decorator Pattern - PowerUpDecorator
@@ -12,6 +15,8 @@ public abstract class PowerUpDecorator implements GameCharacter {
     protected GameLogger logger;
     protected double duration;
     protected double timeActive;
+    private TimingWheel timers;
+    private TimingWheel.Timer expiryTimer;
 
     public PowerUpDecorator(GameCharacter character, double duration) {
         this.decoratedCharacter = character;
@@ -20,20 +25,23 @@ public abstract class PowerUpDecorator implements GameCharacter {
         this.timeActive = 0;
 
         // Log the application of the decorator
-        logger.logDecorator(this.getClass().getSimpleName(),
-                           character.getClass().getSimpleName());
+        if (logger.isEnabled(LogLevel.INFO)) {
+            logger.logDecorator(this.getClass().getSimpleName(),
+                               character.getClass().getSimpleName());
+        }
+        EventJournal.getInstance().decoratorApplied(this.getClass().getSimpleName());
     }
 
     @Override
-    public void draw(GraphicsContext gc) {
-        decoratedCharacter.draw(gc);
-        drawPowerUpEffect(gc);
+    public void draw(Renderer renderer) {
+        decoratedCharacter.draw(renderer);
+        drawPowerUpEffect(renderer);
     }
 
     /**
      * Draw visual effect of the power-up
      */
-    protected abstract void drawPowerUpEffect(GraphicsContext gc);
+    protected abstract void drawPowerUpEffect(Renderer renderer);
 
     /**
      * Update the power-up (for time-based effects)
@@ -42,18 +50,56 @@ public abstract class PowerUpDecorator implements GameCharacter {
         timeActive += deltaTime;
     }
 
+    /**
+     * Schedule the expiry on a timing wheel, instead of polling
+     * {@link #update(double)} and {@link #isExpired()} every frame
+     */
+    public void scheduleExpiry(TimingWheel timers, Runnable onExpired) {
+        this.timers = timers;
+        this.expiryTimer = new TimingWheel.Timer(onExpired);
+        timers.schedule(expiryTimer, duration - timeActive);
+    }
+
     /**
      * Check if power-up has expired
      */
     public boolean isExpired() {
+        if (expiryTimer != null) {
+            return !expiryTimer.isScheduled();
+        }
         return timeActive >= duration;
     }
 
+    /**
+     * Take a decorator out of a chain, wherever it is: the decorator wrapping
+     * it is relinked to its inner character, so the outer decorators stay
+     *
+     * @return the outermost character of the chain after removal
+     */
+    public static GameCharacter removeFromChain(GameCharacter chain, PowerUpDecorator removed) {
+        if (chain == removed) {
+            return removed.decoratedCharacter;
+        }
+        GameCharacter current = chain;
+        while (current instanceof PowerUpDecorator) {
+            PowerUpDecorator decorator = (PowerUpDecorator) current;
+            if (decorator.decoratedCharacter == removed) {
+                decorator.decoratedCharacter = removed.decoratedCharacter;
+                break;
+            }
+            current = decorator.decoratedCharacter;
+        }
+        return chain;
+    }
+
     public GameCharacter getDecoratedCharacter() {
         return decoratedCharacter;
     }
 
     public double getRemainingTime() {
+        if (expiryTimer != null) {
+            return timers.getRemainingTime(expiryTimer);
+        }
         return Math.max(0, duration - timeActive);
     }
 }
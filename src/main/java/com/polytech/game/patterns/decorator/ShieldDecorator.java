@@ -1,6 +1,8 @@
 package com.polytech.game.patterns.decorator;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
@@ -8,6 +10,8 @@ import javafx.scene.paint.Color;
  * Adds protective shield to the character
  */
 public class ShieldDecorator extends PowerUpDecorator {
+    private static final Color BUBBLE_COLOR = ResourceCache.color(0, 1, 1, 0.1);
+
     private static final int SHIELD_STRENGTH = 3;
 
     public ShieldDecorator(GameCharacter character, double duration) {
@@ -35,15 +39,24 @@ public class ShieldDecorator extends PowerUpDecorator {
     }
 
     @Override
-    protected void drawPowerUpEffect(GraphicsContext gc) {
-        // Draw shield bubble effect
-        gc.setStroke(Color.CYAN);
-        gc.setLineWidth(2);
+    protected void drawPowerUpEffect(Renderer renderer) {
         if (decoratedCharacter instanceof BaseCharacter) {
             BaseCharacter base = (BaseCharacter) decoratedCharacter;
-            gc.strokeOval(base.getX() - 30, base.getY() - 20, 60, 40);
-            gc.setFill(Color.color(0, 1, 1, 0.1));
-            gc.fillOval(base.getX() - 30, base.getY() - 20, 60, 40);
+            if (!renderer.drawSprite(Sprite.SHIELD_BUBBLE, 0, base.getX(), base.getY())) {
+                paintEffect(renderer, base.getX(), base.getY());
+            }
         }
     }
+
+    /**
+     * Vector drawing of the effect centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paintEffect(Renderer renderer, double x, double y) {
+        // Draw shield bubble effect
+        renderer.setStroke(Color.CYAN);
+        renderer.setLineWidth(2);
+        renderer.strokeOval(x - 30, y - 20, 60, 40);
+        renderer.setFill(BUBBLE_COLOR);
+        renderer.fillOval(x - 30, y - 20, 60, 40);
+    }
 }
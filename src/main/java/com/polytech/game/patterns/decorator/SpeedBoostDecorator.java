@@ -1,6 +1,8 @@
 package com.polytech.game.patterns.decorator;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
+import com.polytech.game.render.Sprite;
 import javafx.scene.paint.Color;
 
 /**
@@ -8,6 +10,8 @@ import javafx.scene.paint.Color;
  * Doubles the character's movement speed for a limited time
  */
 public class SpeedBoostDecorator extends PowerUpDecorator {
+    private static final Color TRAIL_COLOR = ResourceCache.color(1, 1, 0, 0.3);
+
     private static final double SPEED_MULTIPLIER = 2.0;
 
     public SpeedBoostDecorator(GameCharacter character, double duration) {
@@ -35,12 +39,21 @@ public class SpeedBoostDecorator extends PowerUpDecorator {
     }
 
     @Override
-    protected void drawPowerUpEffect(GraphicsContext gc) {
-        // Draw speed trail effect
-        gc.setFill(Color.color(1, 1, 0, 0.3));
+    protected void drawPowerUpEffect(Renderer renderer) {
         if (decoratedCharacter instanceof BaseCharacter) {
             BaseCharacter base = (BaseCharacter) decoratedCharacter;
-            gc.fillOval(base.getX() - 25, base.getY() - 15, 50, 30);
+            if (!renderer.drawSprite(Sprite.SPEED_TRAIL, 0, base.getX(), base.getY())) {
+                paintEffect(renderer, base.getX(), base.getY());
+            }
         }
     }
+
+    /**
+     * Vector drawing of the effect centered on (x, y), also used to build the sprite atlas
+     */
+    public static void paintEffect(Renderer renderer, double x, double y) {
+        // Draw speed trail effect
+        renderer.setFill(TRAIL_COLOR);
+        renderer.fillOval(x - 25, y - 15, 50, 30);
+    }
 }
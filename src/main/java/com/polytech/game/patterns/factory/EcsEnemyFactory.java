@@ -0,0 +1,44 @@
+package com.polytech.game.patterns.factory;
+
+import com.polytech.game.ecs.EcsWorld;
+import com.polytech.game.logging.LogLevel;
+import com.polytech.game.patterns.composite.GameComponent;
+import com.polytech.game.patterns.singleton.GameLogger;
+
+/**
+ * Factory Pattern - EcsEnemyFactory
+ * Concrete factory creating enemies as entities of an EcsWorld
+ *
+ * The entities are EnemyComponents: a GameLevel counts them and PlayingState
+ * collides them like swarm enemies. Add the world to the level as well, since
+ * it is the world that moves and draws them.
+ */
+public class EcsEnemyFactory implements EntityFactory {
+    private final GameLogger logger;
+    private final EcsWorld world;
+    private int enemyCount = 0;
+
+    public EcsEnemyFactory(EcsWorld world) {
+        this.logger = GameLogger.getInstance();
+        this.world = world;
+    }
+
+    @Override
+    public GameComponent createEntity(double x, double y) {
+        GameComponent enemy = world.spawnEnemy(x, y);
+        enemyCount++;
+        if (logger.isEnabled(LogLevel.DEBUG)) {
+            logger.debug("EcsEnemyFactory created enemy #{} at position ({}, {})", enemyCount, x, y);
+        }
+        return enemy;
+    }
+
+    @Override
+    public String getFactoryType() {
+        return "EcsEnemyFactory";
+    }
+
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+}
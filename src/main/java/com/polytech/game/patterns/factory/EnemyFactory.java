@@ -1,6 +1,8 @@
 package com.polytech.game.patterns.factory;
 
+import com.polytech.game.logging.LogLevel;
 import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.EnemySwarm;
 import com.polytech.game.patterns.composite.GameComponent;
 import com.polytech.game.patterns.singleton.GameLogger;
 
@@ -10,17 +12,29 @@ import com.polytech.game.patterns.singleton.GameLogger;
  */
 public class EnemyFactory implements EntityFactory {
     private final GameLogger logger;
+    private final EnemySwarm swarm;
     private int enemyCount = 0;
 
     public EnemyFactory() {
+        this(null);
+    }
+
+    /**
+     * Create a factory spawning its enemies into the given swarm
+     * (null creates standalone enemies)
+     */
+    public EnemyFactory(EnemySwarm swarm) {
         this.logger = GameLogger.getInstance();
+        this.swarm = swarm;
     }
 
     @Override
     public GameComponent createEntity(double x, double y) {
-        Enemy enemy = new Enemy(x, y);
+        Enemy enemy = swarm != null ? swarm.spawn(x, y) : new Enemy(x, y);
         enemyCount++;
-        logger.info("EnemyFactory created enemy #" + enemyCount + " at position (" + x + ", " + y + ")");
+        if (logger.isEnabled(LogLevel.INFO)) {
+            logger.info("EnemyFactory created enemy #{} at position ({}, {})", enemyCount, x, y);
+        }
         return enemy;
     }
 
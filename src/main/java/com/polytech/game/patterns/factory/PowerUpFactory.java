@@ -1,5 +1,6 @@
 package com.polytech.game.patterns.factory;
 
+import com.polytech.game.logging.LogLevel;
 import com.polytech.game.patterns.composite.GameComponent;
 import com.polytech.game.patterns.composite.PowerUp;
 import com.polytech.game.patterns.singleton.GameLogger;
@@ -16,8 +17,16 @@ public class PowerUpFactory implements EntityFactory {
     private int powerUpCount = 0;
 
     public PowerUpFactory() {
+        this(new Random());
+    }
+
+    /**
+     * Create a factory drawing power-up types from the given generator
+     * (pass a seeded generator for reproducible runs)
+     */
+    public PowerUpFactory(Random random) {
         this.logger = GameLogger.getInstance();
-        this.random = new Random();
+        this.random = random;
     }
 
     @Override
@@ -28,8 +37,7 @@ public class PowerUpFactory implements EntityFactory {
 
         PowerUp powerUp = new PowerUp(x, y, type);
         powerUpCount++;
-        logger.info("PowerUpFactory created " + type.name() + " #" + powerUpCount +
-                   " at position (" + x + ", " + y + ")");
+        logPowerUpCreated(type, x, y);
         return powerUp;
     }
 
@@ -39,11 +47,17 @@ public class PowerUpFactory implements EntityFactory {
     public GameComponent createSpecificPowerUp(double x, double y, PowerUp.PowerUpType type) {
         PowerUp powerUp = new PowerUp(x, y, type);
         powerUpCount++;
-        logger.info("PowerUpFactory created " + type.name() + " #" + powerUpCount +
-                   " at position (" + x + ", " + y + ")");
+        logPowerUpCreated(type, x, y);
         return powerUp;
     }
 
+    private void logPowerUpCreated(PowerUp.PowerUpType type, double x, double y) {
+        if (logger.isEnabled(LogLevel.INFO)) {
+            logger.info("PowerUpFactory created " + type.name() + " #" + powerUpCount +
+                       " at position (" + x + ", " + y + ")");
+        }
+    }
+
     @Override
     public String getFactoryType() {
         return "PowerUpFactory";
@@ -0,0 +1,114 @@
+package com.polytech.game.patterns.pool;
+
+import com.polytech.game.patterns.composite.Bullet;
+
+/**
+ * Object Pool Pattern - BulletPool
+ * Fixed-capacity pool of reusable bullets
+ *
+ * All bullets are allocated up front. Live bullets are kept packed at the
+ * front of the slot array; when a bullet dies it is swapped towards the tail
+ * during {@link #update(double)}, so firing and expiring bullets never allocates.
+ */
+public class BulletPool {
+    private final Bullet[] slots;
+    private int liveCount;
+    private int highWaterMark;
+    private long droppedCount;
+
+    public BulletPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Pool capacity must be positive: " + capacity);
+        }
+        this.slots = new Bullet[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Bullet(0, 0, true, 1);
+            slots[i].setActive(false);
+        }
+    }
+
+    /**
+     * Take a bullet from the pool and (re)initialize it
+     *
+     * @return the bullet, or null if every slot is in use
+     */
+    public Bullet acquire(double x, double y, boolean playerBullet, int damage) {
+        if (liveCount == slots.length) {
+            droppedCount++;
+            return null;
+        }
+
+        Bullet bullet = slots[liveCount++];
+        bullet.reset(x, y, playerBullet, damage);
+        if (liveCount > highWaterMark) {
+            highWaterMark = liveCount;
+        }
+        return bullet;
+    }
+
+    /**
+     * Update live bullets and compact dead ones out of the live range in place
+     */
+    public void update(double deltaTime) {
+        int write = 0;
+        for (int read = 0; read < liveCount; read++) {
+            Bullet bullet = slots[read];
+            if (bullet.isActive()) {
+                bullet.update(deltaTime);
+            }
+            if (bullet.isActive()) {
+                if (write != read) {
+                    slots[read] = slots[write];
+                    slots[write] = bullet;
+                }
+                write++;
+            }
+        }
+        liveCount = write;
+    }
+
+    /**
+     * Return every bullet to the pool
+     */
+    public void clear() {
+        for (int i = 0; i < liveCount; i++) {
+            slots[i].setActive(false);
+        }
+        liveCount = 0;
+    }
+
+    /**
+     * Get the live bullet at the given index (0 <= index < getLiveCount())
+     */
+    public Bullet get(int index) {
+        if (index < 0 || index >= liveCount) {
+            throw new IndexOutOfBoundsException("Bullet index " + index + " out of " + liveCount);
+        }
+        return slots[index];
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * Number of shots that could not be served because the pool was full
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BulletPool[live=" + liveCount + ", capacity=" + slots.length +
+               ", highWaterMark=" + highWaterMark + ", dropped=" + droppedCount + "]";
+    }
+}
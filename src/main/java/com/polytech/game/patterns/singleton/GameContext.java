@@ -1,5 +1,6 @@
 package com.polytech.game.patterns.singleton;
 
+import com.polytech.game.journal.EventJournal;
 import com.polytech.game.patterns.state.GameState;
 import com.polytech.game.patterns.state.MenuState;
 
@@ -11,10 +12,12 @@ public class GameContext {
     private static GameContext instance;
     private GameState currentState;
     private final GameLogger logger;
+    private final EventJournal journal;
     private int highScore;
 
     private GameContext() {
         this.logger = GameLogger.getInstance();
+        this.journal = EventJournal.getInstance();
         this.highScore = 0;
         // Initialize with menu state
         this.currentState = new MenuState(this);
@@ -39,6 +42,7 @@ public class GameContext {
             String oldStateName = currentState.getStateName();
             currentState.exit();
             logger.logStateChange("Game", oldStateName, newState.getStateName());
+            journal.stateChange(oldStateName, newState.getStateName());
         }
 
         currentState = newState;
@@ -56,7 +60,8 @@ public class GameContext {
     public void updateHighScore(int score) {
         if (score > highScore) {
             highScore = score;
-            logger.info("New High Score: " + highScore);
+            logger.info("New High Score: {}", highScore);
+            journal.highScore(highScore);
         }
     }
 }
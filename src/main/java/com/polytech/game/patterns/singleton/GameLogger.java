@@ -1,26 +1,52 @@
 package com.polytech.game.patterns.singleton;
 
+import com.polytech.game.logging.AsyncLogWriter;
+import com.polytech.game.logging.LogLevel;
+import com.polytech.game.logging.MessageFormatter;
+import com.polytech.game.logging.OverflowPolicy;
+
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.function.Supplier;
 
 //  game logger singleton class
+//  entries go through an asynchronous ring buffer, so logging never blocks a frame on I/O
+//  configuration: -Dgame.log.bufferSize=8192 -Dgame.log.overflow=DROP_NEWEST|DROP_OLDEST|BLOCK
+//                 -Dgame.log.console=false to only write logs/game.log
+//                 -Dgame.log.level=WARN to skip (and never format) INFO and DEBUG messages
 public class GameLogger {
     private static GameLogger instance;
-    private PrintWriter fileWriter;
-    private final DateTimeFormatter timeFormatter;
+    private final AsyncLogWriter writer;
+    private volatile LogLevel threshold;
     private static final String LOG_FILE = "logs/game.log";
+    private static final int BUFFER_SIZE = Integer.getInteger("game.log.bufferSize", 8192);
+    private static final OverflowPolicy OVERFLOW_POLICY =
+            OverflowPolicy.valueOf(System.getProperty("game.log.overflow", "DROP_NEWEST").toUpperCase());
+    private static final boolean CONSOLE_ENABLED =
+            Boolean.parseBoolean(System.getProperty("game.log.console", "true"));
 
     private GameLogger() {
-        timeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        threshold = LogLevel.valueOf(System.getProperty("game.log.level", "INFO").toUpperCase());
+        Writer fileWriter = null;
         try {
-            fileWriter = new PrintWriter(new FileWriter(LOG_FILE, true), true);
-            log("INFO", "GameLogger initialized");
+            File logFile = new File(LOG_FILE);
+            if (logFile.getParentFile() != null) {
+                logFile.getParentFile().mkdirs();
+            }
+            fileWriter = new FileWriter(logFile, true);
         } catch (IOException e) {
             System.err.println("Failed to initialize log file: " + e.getMessage());
         }
+        Writer consoleWriter = CONSOLE_ENABLED ? new OutputStreamWriter(System.out) : null;
+
+        writer = new AsyncLogWriter(BUFFER_SIZE, OVERFLOW_POLICY, consoleWriter, fileWriter);
+
+        // Make sure queued entries reach the file even on System.exit()
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "game-log-shutdown"));
+        info("GameLogger initialized");
     }
 
  
@@ -33,45 +59,166 @@ public class GameLogger {
 
     
     public void log(String level, String message) {
-        String timestamp = LocalDateTime.now().format(timeFormatter);
-        String logEntry = String.format("[%s] [%s] %s", timestamp, level, message);
-
-        System.out.println(logEntry);
-        if (fileWriter != null) {
-            fileWriter.println(logEntry);
-            fileWriter.flush();
+        if (LogLevel.fromLabel(level).isEnabledFor(threshold)) {
+            writer.append(level, message);
         }
     }
 
+
+    // true if messages of this level are currently written; guard expensive messages with it
+    public boolean isEnabled(LogLevel level) {
+        return level.isEnabledFor(threshold);
+    }
+
+
+    // change the threshold at runtime
+    public void setLevel(LogLevel level) {
+        threshold = level;
+    }
+
+
+    public LogLevel getLevel() {
+        return threshold;
+    }
+
   
     public void logStateChange(String entity, String fromState, String toState) {
-        log("STATE", String.format("%s: %s -> %s", entity, fromState, toState));
+        if (isEnabled(LogLevel.INFO)) {
+            writer.append("STATE", entity + ": " + fromState + " -> " + toState);
+        }
     }
 
  
     public void logDecorator(String decoratorType, String targetEntity) {
-        log("DECORATOR", String.format("%s applied to %s", decoratorType, targetEntity));
+        if (isEnabled(LogLevel.INFO)) {
+            writer.append("DECORATOR", decoratorType + " applied to " + targetEntity);
+        }
     }
 
  
     public void logDecoratorRemoval(String decoratorType, String targetEntity) {
-        log("DECORATOR", String.format("%s removed from %s", decoratorType, targetEntity));
+        if (isEnabled(LogLevel.INFO)) {
+            writer.append("DECORATOR", decoratorType + " removed from " + targetEntity);
+        }
+    }
+
+
+    // DEBUG: diagnostics, off by default
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, message.get());
+        }
+    }
+
+    public void debug(String pattern, long value) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, MessageFormatter.format(pattern, value));
+        }
+    }
+
+    public void debug(String pattern, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, MessageFormatter.format(pattern, arg1, arg2));
+        }
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            log(LogLevel.DEBUG, MessageFormatter.format(pattern, arg1, arg2, arg3));
+        }
     }
 
   
     public void info(String message) {
-        log("INFO", message);
+        log(LogLevel.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, message.get());
+        }
+    }
+
+    // a primitive argument (score, count) is neither boxed nor formatted when INFO is off
+    public void info(String pattern, long value) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, MessageFormatter.format(pattern, value));
+        }
+    }
+
+    public void info(String pattern, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, MessageFormatter.format(pattern, arg1, arg2));
+        }
+    }
+
+    public void info(String pattern, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(LogLevel.INFO)) {
+            log(LogLevel.INFO, MessageFormatter.format(pattern, arg1, arg2, arg3));
+        }
     }
+
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void warn(Supplier<String> message) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, message.get());
+        }
+    }
+
+    public void warn(String pattern, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, MessageFormatter.format(pattern, arg));
+        }
+    }
+
  
     public void error(String message) {
-        log("ERROR", message);
+        log(LogLevel.ERROR, message);
+    }
+
+    public void error(String pattern, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            log(LogLevel.ERROR, MessageFormatter.format(pattern, arg));
+        }
+    }
+
+
+    private void log(LogLevel level, String message) {
+        if (level.isEnabledFor(threshold)) {
+            writer.append(level.name(), message);
+        }
     }
 
  
+    // number of entries discarded because the ring buffer was full
+    public long getDroppedCount() {
+        return writer.getDroppedCount();
+    }
+
+ 
+    // writes out every queued entry, then stops the writer thread
     public void close() {
-        if (fileWriter != null) {
-            log("INFO", "GameLogger shutting down");
-            fileWriter.close();
-        }
+        writer.append("INFO", "GameLogger shutting down");
+        writer.close();
     }
 }
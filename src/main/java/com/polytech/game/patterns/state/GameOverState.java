@@ -2,7 +2,8 @@ package com.polytech.game.patterns.state;
 
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -13,20 +14,27 @@ import javafx.scene.text.TextAlignment;
  * Represents the game over state
  */
 public class GameOverState implements GameState {
+    private static final Font FONT_64 = ResourceCache.font("Arial", 64);
+    private static final Font FONT_32 = ResourceCache.font("Arial", 32);
+    private static final Font FONT_20 = ResourceCache.font("Arial", 20);
+    private static final Color BACKGROUND_COLOR = ResourceCache.color(0.2, 0, 0);
+
     private final GameContext context;
     private final GameLogger logger;
     private final int finalScore;
+    private final String finalScoreText;
 
     public GameOverState(GameContext context, int finalScore) {
         this.context = context;
         this.logger = GameLogger.getInstance();
         this.finalScore = finalScore;
+        this.finalScoreText = "Final Score: " + finalScore;
     }
 
     @Override
     public void handleInput(KeyCode keyCode) {
         if (keyCode == KeyCode.ENTER) {
-            context.changeState(new PlayingState(context));
+            context.changeState(PlayingStatePreloader.getInstance().take(context));
         } else if (keyCode == KeyCode.ESCAPE) {
             context.changeState(new MenuState(context));
         }
@@ -38,31 +46,33 @@ public class GameOverState implements GameState {
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer) {
         // Clear screen with dark red tint
-        gc.setFill(Color.color(0.2, 0, 0));
-        gc.fillRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        renderer.setFill(BACKGROUND_COLOR);
+        renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
 
         // Draw Game Over text
-        gc.setFill(Color.RED);
-        gc.setFont(new Font("Arial", 64));
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.fillText("GAME OVER", gc.getCanvas().getWidth() / 2, 200);
+        renderer.setFill(Color.RED);
+        renderer.setFont(FONT_64);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText("GAME OVER", renderer.getWidth() / 2, 200);
 
         // Draw final score
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("Arial", 32));
-        gc.fillText("Final Score: " + finalScore, gc.getCanvas().getWidth() / 2, 280);
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_32);
+        renderer.fillText(finalScoreText, renderer.getWidth() / 2, 280);
 
         // Draw options
-        gc.setFont(new Font("Arial", 20));
-        gc.fillText("Press ENTER to Try Again", gc.getCanvas().getWidth() / 2, 380);
-        gc.fillText("Press ESC to Return to Menu", gc.getCanvas().getWidth() / 2, 410);
+        renderer.setFont(FONT_20);
+        renderer.fillText("Press ENTER to Try Again", renderer.getWidth() / 2, 380);
+        renderer.fillText("Press ESC to Return to Menu", renderer.getWidth() / 2, 410);
     }
 
     @Override
     public void enter() {
-        logger.info("Game Over - Final Score: " + finalScore);
+        logger.info("Game Over - Final Score: {}", finalScore);
+        // Build the next run while this screen is showing
+        PlayingStatePreloader.getInstance().preload(context);
     }
 
     @Override
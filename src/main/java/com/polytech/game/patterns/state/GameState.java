@@ -1,7 +1,8 @@
 package com.polytech.game.patterns.state;
 
 import com.polytech.game.patterns.singleton.GameContext;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.RenderLayer;
+import com.polytech.game.render.Renderer;
 import javafx.scene.input.KeyCode;
 
 /**
@@ -22,7 +23,34 @@ public interface GameState {
     /**
      * Render the state
      */
-    void render(GraphicsContext gc);
+    void render(Renderer renderer);
+
+    /**
+     * Render the state with entities interpolated between simulation ticks
+     *
+     * @param alpha interpolation factor, 0 = previous tick, 1 = current tick
+     */
+    default void render(Renderer renderer, double alpha) {
+        render(renderer);
+    }
+
+    /**
+     * Render one layer of the state, in the layered rendering mode.
+     * By default the whole state is a static screen on the background layer.
+     */
+    default void renderLayer(RenderLayer layer, Renderer renderer, double alpha) {
+        if (layer == RenderLayer.BACKGROUND) {
+            render(renderer, alpha);
+        }
+    }
+
+    /**
+     * Whether a layer changed since it was last rendered.
+     * Layers are always redrawn once after a state change.
+     */
+    default boolean isLayerDirty(RenderLayer layer) {
+        return false;
+    }
 
     /**
      * Enter this state
@@ -0,0 +1,88 @@
+package com.polytech.game.patterns.state;
+
+import com.polytech.game.patterns.singleton.GameContext;
+import com.polytech.game.patterns.singleton.GameLogger;
+import com.polytech.game.render.RenderLayer;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
+import javafx.scene.input.KeyCode;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * State Pattern - LoadingState
+ * Shown while the next PlayingState is still being built in the background
+ */
+public class LoadingState implements GameState {
+    private static final Font FONT_32 = ResourceCache.font("Arial", 32);
+    private static final String[] LABELS = {"Loading", "Loading.", "Loading..", "Loading..."};
+
+    private final GameContext context;
+    private final GameLogger logger;
+    private final CompletableFuture<PlayingState> next;
+    private double elapsed;
+
+    public LoadingState(GameContext context, CompletableFuture<PlayingState> next) {
+        this.context = context;
+        this.logger = GameLogger.getInstance();
+        this.next = next;
+    }
+
+    @Override
+    public void handleInput(KeyCode keyCode) {
+        if (keyCode == KeyCode.ESCAPE) {
+            context.changeState(new MenuState(context));
+        }
+    }
+
+    @Override
+    public void update(double deltaTime) {
+        elapsed += deltaTime;
+        if (!next.isDone()) {
+            return;
+        }
+
+        try {
+            context.changeState(next.join());
+        } catch (CompletionException e) {
+            logger.error("Failed to load the level: {}", e.getCause());
+            context.changeState(new MenuState(context));
+        }
+    }
+
+    @Override
+    public void render(Renderer renderer) {
+        renderer.setFill(Color.BLACK);
+        renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
+
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_32);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText(LABELS[(int) (elapsed * 4) % LABELS.length],
+                          renderer.getWidth() / 2, renderer.getHeight() / 2);
+    }
+
+    @Override
+    public boolean isLayerDirty(RenderLayer layer) {
+        return layer == RenderLayer.BACKGROUND; // Animated label
+    }
+
+    @Override
+    public void enter() {
+        logger.info("Entered Loading State");
+    }
+
+    @Override
+    public void exit() {
+        logger.info("Exited Loading State");
+    }
+
+    @Override
+    public String getStateName() {
+        return "LOADING";
+    }
+}
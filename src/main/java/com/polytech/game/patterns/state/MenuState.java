@@ -2,7 +2,8 @@ package com.polytech.game.patterns.state;
 
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -13,6 +14,12 @@ import javafx.scene.text.TextAlignment;
  * Represents the main menu state of the game
  */
 public class MenuState implements GameState {
+    private static final Font FONT_48 = ResourceCache.font("Arial", 48);
+    private static final Font FONT_24 = ResourceCache.font("Arial", 24);
+    private static final Font FONT_20 = ResourceCache.font("Arial", 20);
+    private static final Font FONT_16 = ResourceCache.font("Arial", 16);
+    private static final Font FONT_14 = ResourceCache.font("Arial", 14);
+
     private final GameContext context;
     private final GameLogger logger;
 
@@ -24,7 +31,7 @@ public class MenuState implements GameState {
     @Override
     public void handleInput(KeyCode keyCode) {
         if (keyCode == KeyCode.ENTER || keyCode == KeyCode.SPACE) {
-            context.changeState(new PlayingState(context));
+            context.changeState(PlayingStatePreloader.getInstance().take(context));
         } else if (keyCode == KeyCode.ESCAPE) {
             logger.info("User requested to quit from menu");
             System.exit(0);
@@ -37,43 +44,45 @@ public class MenuState implements GameState {
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer) {
         // Clear screen
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        renderer.setFill(Color.BLACK);
+        renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
 
         // Draw title
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("Arial", 48));
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.fillText("SPACE INVADERS", gc.getCanvas().getWidth() / 2, 150);
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_48);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText("SPACE INVADERS", renderer.getWidth() / 2, 150);
 
         // Draw instructions
-        gc.setFont(new Font("Arial", 24));
-        gc.fillText("Design Patterns Project", gc.getCanvas().getWidth() / 2, 220);
+        renderer.setFont(FONT_24);
+        renderer.fillText("Design Patterns Project", renderer.getWidth() / 2, 220);
 
-        gc.setFont(new Font("Arial", 20));
-        gc.fillText("Press ENTER to Start", gc.getCanvas().getWidth() / 2, 350);
-        gc.fillText("Press ESC to Quit", gc.getCanvas().getWidth() / 2, 390);
+        renderer.setFont(FONT_20);
+        renderer.fillText("Press ENTER to Start", renderer.getWidth() / 2, 350);
+        renderer.fillText("Press ESC to Quit", renderer.getWidth() / 2, 390);
 
         // Draw controls
-        gc.setFont(new Font("Arial", 16));
-        gc.fillText("Controls:", gc.getCanvas().getWidth() / 2, 450);
-        gc.fillText("Arrow Keys - Move", gc.getCanvas().getWidth() / 2, 475);
-        gc.fillText("SPACE - Shoot", gc.getCanvas().getWidth() / 2, 500);
-        gc.fillText("P - Pause", gc.getCanvas().getWidth() / 2, 525);
+        renderer.setFont(FONT_16);
+        renderer.fillText("Controls:", renderer.getWidth() / 2, 450);
+        renderer.fillText("Arrow Keys - Move", renderer.getWidth() / 2, 475);
+        renderer.fillText("SPACE - Shoot", renderer.getWidth() / 2, 500);
+        renderer.fillText("P - Pause", renderer.getWidth() / 2, 525);
 
         // Draw power-up test keys
-        gc.setFont(new Font("Arial", 14));
-        gc.setFill(Color.YELLOW);
-        gc.fillText("Power-ups (Test/Demo):", gc.getCanvas().getWidth() / 2, 560);
-        gc.setFill(Color.WHITE);
-        gc.fillText("1 - Speed Boost  |  2 - Shield  |  3 - Fire Power", gc.getCanvas().getWidth() / 2, 580);
+        renderer.setFont(FONT_14);
+        renderer.setFill(Color.YELLOW);
+        renderer.fillText("Power-ups (Test/Demo):", renderer.getWidth() / 2, 560);
+        renderer.setFill(Color.WHITE);
+        renderer.fillText("1 - Speed Boost  |  2 - Shield  |  3 - Fire Power", renderer.getWidth() / 2, 580);
     }
 
     @Override
     public void enter() {
         logger.info("Entered Menu State");
+        // Build the next run while this screen is showing
+        PlayingStatePreloader.getInstance().preload(context);
     }
 
     @Override
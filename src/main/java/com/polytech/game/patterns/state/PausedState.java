@@ -2,7 +2,8 @@ package com.polytech.game.patterns.state;
 
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -13,6 +14,10 @@ import javafx.scene.text.TextAlignment;
  * Represents the paused game state
  */
 public class PausedState implements GameState {
+    private static final Font FONT_48 = ResourceCache.font("Arial", 48);
+    private static final Font FONT_20 = ResourceCache.font("Arial", 20);
+    private static final Color OVERLAY_COLOR = ResourceCache.color(0, 0, 0, 0.7);
+
     private final GameContext context;
     private final GameLogger logger;
     private final PlayingState previousState;
@@ -38,22 +43,22 @@ public class PausedState implements GameState {
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer) {
         // Render the previous playing state (frozen)
-        previousState.render(gc);
+        previousState.render(renderer);
 
         // Draw pause overlay
-        gc.setFill(Color.color(0, 0, 0, 0.7));
-        gc.fillRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        renderer.setFill(OVERLAY_COLOR);
+        renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
 
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("Arial", 48));
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.fillText("PAUSED", gc.getCanvas().getWidth() / 2, 250);
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_48);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText("PAUSED", renderer.getWidth() / 2, 250);
 
-        gc.setFont(new Font("Arial", 20));
-        gc.fillText("Press P or ENTER to Resume", gc.getCanvas().getWidth() / 2, 350);
-        gc.fillText("Press ESC to Return to Menu", gc.getCanvas().getWidth() / 2, 380);
+        renderer.setFont(FONT_20);
+        renderer.fillText("Press P or ENTER to Resume", renderer.getWidth() / 2, 350);
+        renderer.fillText("Press ESC to Return to Menu", renderer.getWidth() / 2, 380);
     }
 
     @Override
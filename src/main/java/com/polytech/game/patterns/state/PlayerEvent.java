@@ -0,0 +1,13 @@
+package com.polytech.game.patterns.state;
+
+/**
+ * State Pattern - PlayerEvent
+ * Inputs and timer events driving the player state machine
+ */
+public enum PlayerEvent {
+    MOVE_LEFT,
+    MOVE_RIGHT,
+    STOP,
+    SHOOT,
+    COOLDOWN_END
+}
@@ -4,18 +4,26 @@ import com.polytech.game.entities.Player;
 
 /**
  * State Pattern - PlayerState Interface
- * Defines different states for the player character
+ * Defines different states for the player character.
+ * Transitions between states are driven by {@link PlayerStateMachine}.
  */
 public interface PlayerState {
     /**
-     * Handle player input based on current state
+     * Update player based on current state
      */
-    void handleInput(Player player, String input);
+    void update(Player player, double deltaTime);
 
     /**
-     * Update player based on current state
+     * Called when the player enters this state
      */
-    void update(Player player, double deltaTime);
+    default void enter(Player player) {
+    }
+
+    /**
+     * Called when the player leaves this state
+     */
+    default void exit(Player player) {
+    }
 
     /**
      * Get the name of this state
@@ -0,0 +1,126 @@
+package com.polytech.game.patterns.state;
+
+import com.polytech.game.entities.Player;
+import com.polytech.game.journal.EventJournal;
+import com.polytech.game.logging.LogLevel;
+import com.polytech.game.patterns.singleton.GameLogger;
+
+import java.util.Arrays;
+
+/**
+ * State Pattern - PlayerStateMachine
+ * Table-driven transitions between preallocated player states.
+ *
+ * Each player owns one instance of every state, and the next state for a
+ * (state, event) pair is a table lookup. A transition only calls the
+ * exit/enter hooks, bumps a counter and appends a journal record, so input
+ * handling allocates nothing.
+ * The states keep their per-frame behaviour in {@link PlayerState#update}.
+ */
+public class PlayerStateMachine {
+    public static final int IDLE = 0;
+    public static final int MOVING = 1;
+    public static final int SHOOTING = 2;
+    private static final int STATE_COUNT = 3;
+    private static final int NO_TRANSITION = -1;
+
+    // Next state index per [state][event], NO_TRANSITION to stay
+    private static final int[][] TRANSITIONS = buildTransitions();
+
+    private final Player player;
+    private final GameLogger logger;
+    private final EventJournal journal;
+    private final PlayerState[] states;
+    private final long[][] transitionCounts;
+    private int current;
+    private long totalTransitions;
+
+    public PlayerStateMachine(Player player) {
+        this.player = player;
+        this.logger = GameLogger.getInstance();
+        this.journal = EventJournal.getInstance();
+        this.states = new PlayerState[STATE_COUNT];
+        states[IDLE] = new IdlePlayerState();
+        states[MOVING] = new MovingPlayerState();
+        states[SHOOTING] = new ShootingPlayerState();
+        this.transitionCounts = new long[STATE_COUNT][STATE_COUNT];
+        this.current = IDLE;
+    }
+
+    private static int[][] buildTransitions() {
+        int[][] table = new int[STATE_COUNT][PlayerEvent.values().length];
+        for (int[] row : table) {
+            Arrays.fill(row, NO_TRANSITION);
+        }
+
+        table[IDLE][PlayerEvent.MOVE_LEFT.ordinal()] = MOVING;
+        table[IDLE][PlayerEvent.MOVE_RIGHT.ordinal()] = MOVING;
+        table[IDLE][PlayerEvent.SHOOT.ordinal()] = SHOOTING;
+
+        table[MOVING][PlayerEvent.STOP.ordinal()] = IDLE;
+        table[MOVING][PlayerEvent.SHOOT.ordinal()] = SHOOTING;
+
+        // Movement while shooting is handled by the Player, the state only waits for the cooldown
+        table[SHOOTING][PlayerEvent.COOLDOWN_END.ordinal()] = IDLE;
+        return table;
+    }
+
+    /**
+     * Apply an event, changing state if the table has a transition for it
+     *
+     * @return true if the state changed
+     */
+    public boolean fire(PlayerEvent event) {
+        int next = TRANSITIONS[current][event.ordinal()];
+        if (next == NO_TRANSITION || next == current) {
+            return false;
+        }
+
+        PlayerState from = states[current];
+        PlayerState to = states[next];
+        // DEBUG only: at the default INFO level the message would be built on every transition
+        if (logger.isEnabled(LogLevel.DEBUG)) {
+            logger.debug("Player: {} -> {}", from.getStateName(), to.getStateName());
+        }
+        journal.stateChange(from.getStateName(), to.getStateName());
+        from.exit(player);
+        transitionCounts[current][next]++;
+        totalTransitions++;
+        current = next;
+        to.enter(player);
+        return true;
+    }
+
+    public PlayerState getState() {
+        return states[current];
+    }
+
+    /**
+     * Index of the current state (IDLE, MOVING or SHOOTING)
+     */
+    public int getStateIndex() {
+        return current;
+    }
+
+    /**
+     * Number of transitions from one state index to another
+     */
+    public long getTransitionCount(int from, int to) {
+        return transitionCounts[from][to];
+    }
+
+    public long getTotalTransitions() {
+        return totalTransitions;
+    }
+
+    /**
+     * Name of a state index, for reporting transition counts
+     */
+    public String getStateName(int index) {
+        return states[index].getStateName();
+    }
+
+    public int getStateCount() {
+        return STATE_COUNT;
+    }
+}
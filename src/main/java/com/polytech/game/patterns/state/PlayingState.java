@@ -1,50 +1,108 @@
 package com.polytech.game.patterns.state;
 
+import com.polytech.game.engine.FrameProfiler;
+import com.polytech.game.engine.ProfilePhase;
+import com.polytech.game.engine.SpatialGrid;
 import com.polytech.game.entities.Player;
+import com.polytech.game.journal.EventJournal;
+import com.polytech.game.level.LevelLoader;
 import com.polytech.game.patterns.composite.Bullet;
 import com.polytech.game.patterns.composite.Enemy;
+import com.polytech.game.patterns.composite.EnemyComponent;
+import com.polytech.game.patterns.composite.Formation;
 import com.polytech.game.patterns.composite.GameComponent;
 import com.polytech.game.patterns.composite.GameLevel;
-import com.polytech.game.patterns.factory.EnemyFactory;
-import com.polytech.game.patterns.factory.EntityFactory;
+import com.polytech.game.patterns.composite.PowerUp;
+import com.polytech.game.patterns.pool.BulletPool;
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.CachedText;
+import com.polytech.game.render.RenderLayer;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 /**
  * State Pattern - PlayingState
  * Represents the active gameplay state
  */
 public class PlayingState implements GameState {
+    private static final Font FONT_18 = ResourceCache.font("Arial", 18);
+
+    private static final double WORLD_WIDTH = 1200;
+    private static final double WORLD_HEIGHT = 900;
+    private static final double GRID_CELL_SIZE = 64;
+    private static final int ENEMY_BULLET_CAPACITY = 32;
+    private static final int ENEMY_BULLET_DAMAGE = 1;
+    private static final double COLUMN_FIRE_RATE = 0.1; // shots per second per shooting column
+
     private final GameContext context;
     private final GameLogger logger;
+    private final EventJournal journal;
+    private final FrameProfiler profiler;
     private final GameLevel currentLevel;
     private final Player player;
+    private final List<Formation> formations; // Shooter columns of the level
+    private final BulletPool enemyBullets;
+    private final SpatialGrid<GameComponent> collisionGrid;
+    private final List<GameComponent> collisionCandidates;
+    private final CachedText scoreText = new CachedText("Score: ");
+    private final CachedText livesText = new CachedText("Lives: ");
+    private String drawnScoreText; // HUD labels on screen, for the layered renderer
+    private String drawnLivesText;
+    private String drawnPowerUpsText;
+    private final long seed;
+    private final Random random;
+    private long tickCount;
     private int score;
     private int lives;
 
     public PlayingState(GameContext context) {
+        this(context, new Random().nextLong());
+    }
+
+    /**
+     * Create a run whose randomness is fully determined by the seed
+     * (used to reproduce recorded sessions)
+     */
+    public PlayingState(GameContext context, long seed) {
+        this(context, seed, LevelLoader.loadDefault());
+    }
+
+    /**
+     * Create a run on an already loaded level
+     */
+    public PlayingState(GameContext context, long seed, GameLevel level) {
         this.context = context;
+        this.seed = seed;
+        this.random = new Random(seed);
         this.logger = GameLogger.getInstance();
+        this.journal = EventJournal.getInstance();
+        this.profiler = FrameProfiler.getInstance();
         this.score = 0;
         this.lives = 3;
+        this.collisionGrid = new SpatialGrid<>(WORLD_WIDTH, WORLD_HEIGHT, GRID_CELL_SIZE);
+        this.collisionCandidates = new ArrayList<>();
 
         // Create player
         this.player = new Player(400, 550);
 
-        // Create level using Composite Pattern
-        this.currentLevel = new GameLevel("Level 1");
-
-        // Create enemies using Factory Pattern
-        EntityFactory enemyFactory = new EnemyFactory();
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 8; col++) {
-                currentLevel.add(enemyFactory.createEntity(100 + col * 80, 100 + row * 60));
+        // Level built by the loader (Composite Pattern)
+        this.currentLevel = level;
+        this.formations = new ArrayList<>();
+        for (GameComponent component : level.getComponents()) {
+            if (component instanceof Formation) {
+                formations.add((Formation) component);
             }
         }
+        this.enemyBullets = new BulletPool(ENEMY_BULLET_CAPACITY);
     }
 
     @Override
@@ -87,54 +145,107 @@ public class PlayingState implements GameState {
 
     @Override
     public void update(double deltaTime) {
+        tickCount++;
         player.update(deltaTime);
-        currentLevel.update();
+        currentLevel.update(deltaTime);
+        updateEnemyFire(deltaTime);
 
         // Check for collisions
+        long start = profiler.begin();
         checkCollisions();
+        checkPlayerHits();
+        checkPowerUpPickups();
+        profiler.end(ProfilePhase.COLLISIONS, start);
 
         // Check win/lose conditions
         if (lives <= 0) {
             context.changeState(new GameOverState(context, score));
-        } else if (currentLevel.getAllEnemies().isEmpty()) {
+        } else if (currentLevel.getEnemyCount() == 0) {
             context.changeState(new VictoryState(context, score));
         }
     }
 
     @Override
-    public void render(GraphicsContext gc) {
-        // Clear screen
-        gc.setFill(Color.BLACK);
-        gc.fillRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+    public void render(Renderer renderer) {
+        render(renderer, 1.0);
+    }
 
-        // Render level (Composite Pattern)
-        currentLevel.render(gc);
+    @Override
+    public void render(Renderer renderer, double alpha) {
+        renderLayer(RenderLayer.BACKGROUND, renderer, alpha);
+        renderLayer(RenderLayer.ENTITIES, renderer, alpha);
+        renderLayer(RenderLayer.HUD, renderer, alpha);
+    }
+
+    @Override
+    public void renderLayer(RenderLayer layer, Renderer renderer, double alpha) {
+        switch (layer) {
+            case BACKGROUND -> {
+                // Clear screen
+                renderer.setFill(Color.BLACK);
+                renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
+            }
+            case ENTITIES -> {
+                // Render level (Composite Pattern)
+                currentLevel.render(renderer, alpha);
 
-        // Render player
-        player.render(gc);
+                // Render player
+                player.render(renderer, alpha);
+                for (int i = 0; i < enemyBullets.getLiveCount(); i++) {
+                    enemyBullets.get(i).render(renderer, alpha);
+                }
+            }
+            case HUD -> renderHUD(renderer);
+        }
+    }
 
-        // Render HUD
-        renderHUD(gc);
+    @Override
+    public boolean isLayerDirty(RenderLayer layer) {
+        return switch (layer) {
+            case BACKGROUND -> false;
+            case ENTITIES -> true;
+            // The labels are cached, so a new instance means new content
+            case HUD -> scoreText.get(score) != drawnScoreText
+                    || livesText.get(lives) != drawnLivesText
+                    || player.getActivePowerUpsLabel() != drawnPowerUpsText;
+        };
     }
 
-    private void renderHUD(GraphicsContext gc) {
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("Arial", 18));
-        gc.fillText("Score: " + score, 600, 25);
-        gc.fillText("Lives: " + lives, 600, 50);
-        gc.fillText("Active Power-ups: " + player.getActivePowerUps(), 600, 75);
+    private void renderHUD(Renderer renderer) {
+        drawnScoreText = scoreText.get(score);
+        drawnLivesText = livesText.get(lives);
+        drawnPowerUpsText = player.getActivePowerUpsLabel();
+
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_18);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText(drawnScoreText, 600, 25);
+        renderer.fillText(drawnLivesText, 600, 50);
+        renderer.fillText(drawnPowerUpsText, 600, 75);
     }
 
-    private void checkCollisions() {
+    /**
+     * Resolve bullet hits for this tick (package-private for benchmarks)
+     */
+    void checkCollisions() {
+        // Broadphase: bucket the level's entities once per tick
+        rebuildCollisionGrid();
+
         // Check bullet-enemy collisions
-        for (Bullet bullet : player.getBullets()) {
+        BulletPool bullets = player.getBullets();
+        for (int i = 0; i < bullets.getLiveCount(); i++) {
+            Bullet bullet = bullets.get(i);
             if (!bullet.isActive() || !bullet.isPlayerBullet()) {
                 continue;
             }
 
-            for (GameComponent component : currentLevel.getComponents()) {
-                if (component instanceof Enemy && component.isActive()) {
-                    Enemy enemy = (Enemy) component;
+            // Only test the entities sharing a cell with the bullet
+            collisionGrid.query(bullet.getX(), bullet.getY(),
+                               bullet.getWidth(), bullet.getHeight(),
+                               collisionCandidates);
+            for (GameComponent component : collisionCandidates) {
+                if (component instanceof EnemyComponent && component.isActive()) {
+                    EnemyComponent enemy = (EnemyComponent) component;
 
                     // Check if bullet hits enemy
                     if (bullet.collidesWith(enemy.getX() - enemy.getWidth() / 2,
@@ -144,10 +255,17 @@ public class PlayingState implements GameState {
                         // Hit!
                         enemy.takeDamage(bullet.getDamage());
                         bullet.setActive(false);
+                        if (enemy.isActive()) {
+                            break; // Armored enemies take several hits
+                        }
+                        if (enemy.getDrop() != null) {
+                            currentLevel.add(new PowerUp(enemy.getX(), enemy.getY(), enemy.getDrop()));
+                        }
 
                         // Add score
                         score += 100;
-                        logger.info("Enemy destroyed! Score: " + score);
+                        logger.info("Enemy destroyed! Score: {}", score);
+                        journal.enemyKilled(score, enemy.getX(), enemy.getY());
                         break;
                     }
                 }
@@ -155,6 +273,105 @@ public class PlayingState implements GameState {
         }
     }
 
+    /**
+     * Let the bottom enemy of each formation column fire at random,
+     * then move the enemy bullets
+     */
+    private void updateEnemyFire(double deltaTime) {
+        double chance = COLUMN_FIRE_RATE * deltaTime;
+        for (int f = 0; f < formations.size(); f++) {
+            Formation formation = formations.get(f);
+            for (int column = 0; column < formation.getColumnCount(); column++) {
+                if (formation.hasShooter(column) && random.nextDouble() < chance) {
+                    // A full pool just skips the shot
+                    enemyBullets.acquire(formation.getShooterX(column), formation.getShooterBottom(column),
+                                         false, ENEMY_BULLET_DAMAGE);
+                }
+            }
+        }
+        enemyBullets.update(deltaTime);
+    }
+
+    /**
+     * Resolve enemy bullets hitting the player: a hit only costs a life
+     * when its damage reaches the player's defense
+     */
+    private void checkPlayerHits() {
+        double left = player.getX() - player.getWidth() / 2;
+        double top = player.getY() - player.getHeight() / 2;
+        for (int i = 0; i < enemyBullets.getLiveCount(); i++) {
+            Bullet bullet = enemyBullets.get(i);
+            if (bullet.isActive() && bullet.collidesWith(left, top, player.getWidth(), player.getHeight())) {
+                bullet.setActive(false);
+                if (bullet.getDamage() >= player.getDefense()) {
+                    loseLife();
+                } else {
+                    logger.info("Hit absorbed (defense {})", player.getDefense());
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply and despawn the power-ups the player touches, using the broadphase
+     * built by {@link #checkCollisions()}
+     */
+    private void checkPowerUpPickups() {
+        double left = player.getX() - player.getWidth() / 2;
+        double top = player.getY() - player.getHeight() / 2;
+        collisionGrid.query(left, top, player.getWidth(), player.getHeight(), collisionCandidates);
+        for (GameComponent component : collisionCandidates) {
+            if (component instanceof PowerUp && component.isActive()) {
+                PowerUp powerUp = (PowerUp) component;
+                double powerUpLeft = powerUp.getX() - powerUp.getWidth() / 2;
+                double powerUpTop = powerUp.getY() - powerUp.getHeight() / 2;
+                if (left < powerUpLeft + powerUp.getWidth() && powerUpLeft < left + player.getWidth()
+                        && top < powerUpTop + powerUp.getHeight() && powerUpTop < top + player.getHeight()) {
+                    player.collectPowerUp(powerUp.getType());
+                    currentLevel.despawn(powerUp);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuild the collision broadphase from the current enemy and power-up bounds
+     */
+    private void rebuildCollisionGrid() {
+        collisionGrid.clear();
+        List<Enemy> enemies = currentLevel.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive()) {
+                collisionGrid.insert(enemy,
+                                     enemy.getX() - enemy.getWidth() / 2,
+                                     enemy.getY() - enemy.getHeight() / 2,
+                                     enemy.getWidth(), enemy.getHeight());
+            }
+        }
+        List<EnemyComponent> otherEnemies = currentLevel.getOtherEnemies();
+        for (int i = 0; i < otherEnemies.size(); i++) {
+            EnemyComponent enemy = otherEnemies.get(i);
+            if (enemy.isActive()) {
+                collisionGrid.insert(enemy,
+                                     enemy.getX() - enemy.getWidth() / 2,
+                                     enemy.getY() - enemy.getHeight() / 2,
+                                     enemy.getWidth(), enemy.getHeight());
+            }
+        }
+        List<PowerUp> powerUps = currentLevel.getPowerUps();
+        for (int i = 0; i < powerUps.size(); i++) {
+            PowerUp powerUp = powerUps.get(i);
+            if (powerUp.isActive()) {
+                collisionGrid.insert(powerUp,
+                                     powerUp.getX() - powerUp.getWidth() / 2,
+                                     powerUp.getY() - powerUp.getHeight() / 2,
+                                     powerUp.getWidth(), powerUp.getHeight());
+            }
+        }
+        collisionGrid.build();
+    }
+
     @Override
     public void enter() {
         logger.info("Game started - Entered Playing State");
@@ -170,20 +387,59 @@ public class PlayingState implements GameState {
         return "PLAYING";
     }
 
+    /**
+     * Pool of the bullets fired by enemies
+     */
+    public BulletPool getEnemyBullets() {
+        return enemyBullets;
+    }
+
     public Player getPlayer() {
         return player;
     }
 
+    public GameLevel getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Seed of this run's random number generator
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Random number generator of this run; all gameplay randomness must use it
+     * so that replays stay deterministic
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Number of simulation ticks run so far
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
     public int getScore() {
         return score;
     }
 
     public void addScore(int points) {
         this.score += points;
+        journal.scoreUpdate(score);
     }
 
     public void loseLife() {
         this.lives--;
-        logger.info("Life lost. Remaining lives: " + lives);
+        logger.info("Life lost. Remaining lives: {}", lives);
+        journal.lifeLost(lives);
     }
 }
@@ -0,0 +1,74 @@
+package com.polytech.game.patterns.state;
+
+import com.polytech.game.patterns.singleton.GameContext;
+import com.polytech.game.patterns.singleton.GameLogger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * PlayingStatePreloader
+ * Builds the next PlayingState on a background thread.
+ *
+ * Menu and result screens start a preload when they are entered, so that the
+ * level, the player and every enemy are ready by the time a key starts the
+ * run. {@link #take(GameContext)} hands over the preloaded state, or a
+ * {@link LoadingState} that switches to it once the build completes. A built
+ * state is only touched by the game thread after the handover.
+ */
+public final class PlayingStatePreloader {
+    private static PlayingStatePreloader instance;
+
+    private final ExecutorService executor;
+    private final GameLogger logger;
+    private CompletableFuture<PlayingState> pending;
+
+    private PlayingStatePreloader() {
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "game-level-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.logger = GameLogger.getInstance();
+    }
+
+    public static synchronized PlayingStatePreloader getInstance() {
+        if (instance == null) {
+            instance = new PlayingStatePreloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Start building the next run, unless one is already built or being built
+     */
+    public void preload(GameContext context) {
+        if (pending == null) {
+            pending = CompletableFuture.supplyAsync(() -> new PlayingState(context), executor);
+        }
+    }
+
+    /**
+     * Hand over the next run: the preloaded state if it is ready,
+     * otherwise a loading screen waiting for it
+     */
+    public GameState take(GameContext context) {
+        preload(context);
+        CompletableFuture<PlayingState> next = pending;
+        pending = null;
+
+        if (next.isDone() && !next.isCompletedExceptionally()) {
+            return next.join();
+        }
+        logger.info("Next level not ready yet, showing the loading screen");
+        return new LoadingState(context, next);
+    }
+
+    /**
+     * Whether a preloaded run is ready to be handed over
+     */
+    public boolean isReady() {
+        return pending != null && pending.isDone() && !pending.isCompletedExceptionally();
+    }
+}
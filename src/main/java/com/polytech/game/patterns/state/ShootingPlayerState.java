@@ -1,33 +1,34 @@
 package com.polytech.game.patterns.state;
 
+import com.polytech.game.engine.TimingWheel;
 import com.polytech.game.entities.Player;
-import com.polytech.game.patterns.singleton.GameLogger;
 
 /**
  * State Pattern - ShootingPlayerState
  * Player is shooting
  */
 public class ShootingPlayerState implements PlayerState {
-    private final GameLogger logger = GameLogger.getInstance();
-    private double cooldownTime = 0;
+    private TimingWheel.Timer cooldownTimer;
     private static final double SHOOT_COOLDOWN = 0.3;
 
     @Override
-    public void handleInput(Player player, String input) {
-        // Continue handling movement while shooting
-        if (input.equals("MOVE_LEFT") || input.equals("MOVE_RIGHT")) {
-            // Allow movement while shooting
+    public void enter(Player player) {
+        // Return to idle when the cooldown ends, instead of counting time every frame.
+        // The state instance belongs to one player, so its timer is created once.
+        if (cooldownTimer == null) {
+            cooldownTimer = new TimingWheel.Timer(() -> player.getStateMachine().fire(PlayerEvent.COOLDOWN_END));
         }
+        player.getTimers().schedule(cooldownTimer, SHOOT_COOLDOWN);
     }
 
     @Override
-    public void update(Player player, double deltaTime) {
-        cooldownTime += deltaTime;
+    public void exit(Player player) {
+        player.getTimers().cancel(cooldownTimer);
+    }
 
-        if (cooldownTime >= SHOOT_COOLDOWN) {
-            logger.logStateChange("Player", getStateName(), "IDLE");
-            player.setPlayerState(new IdlePlayerState());
-        }
+    @Override
+    public void update(Player player, double deltaTime) {
+        // The cooldown timer fires the transition back to idle
     }
 
     @Override
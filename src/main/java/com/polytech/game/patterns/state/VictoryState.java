@@ -2,7 +2,8 @@ package com.polytech.game.patterns.state;
 
 import com.polytech.game.patterns.singleton.GameContext;
 import com.polytech.game.patterns.singleton.GameLogger;
-import javafx.scene.canvas.GraphicsContext;
+import com.polytech.game.render.Renderer;
+import com.polytech.game.render.ResourceCache;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
@@ -13,20 +14,28 @@ import javafx.scene.text.TextAlignment;
  * Represents the victory state
  */
 public class VictoryState implements GameState {
+    private static final Font FONT_64 = ResourceCache.font("Arial", 64);
+    private static final Font FONT_32 = ResourceCache.font("Arial", 32);
+    private static final Font FONT_24 = ResourceCache.font("Arial", 24);
+    private static final Font FONT_20 = ResourceCache.font("Arial", 20);
+    private static final Color BACKGROUND_COLOR = ResourceCache.color(0.1, 0.1, 0);
+
     private final GameContext context;
     private final GameLogger logger;
     private final int finalScore;
+    private final String finalScoreText;
 
     public VictoryState(GameContext context, int finalScore) {
         this.context = context;
         this.logger = GameLogger.getInstance();
         this.finalScore = finalScore;
+        this.finalScoreText = "Final Score: " + finalScore;
     }
 
     @Override
     public void handleInput(KeyCode keyCode) {
         if (keyCode == KeyCode.ENTER) {
-            context.changeState(new PlayingState(context));
+            context.changeState(PlayingStatePreloader.getInstance().take(context));
         } else if (keyCode == KeyCode.ESCAPE) {
             context.changeState(new MenuState(context));
         }
@@ -38,35 +47,37 @@ public class VictoryState implements GameState {
     }
 
     @Override
-    public void render(GraphicsContext gc) {
+    public void render(Renderer renderer) {
         // Clear screen with golden tint
-        gc.setFill(Color.color(0.1, 0.1, 0));
-        gc.fillRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        renderer.setFill(BACKGROUND_COLOR);
+        renderer.fillRect(0, 0, renderer.getWidth(), renderer.getHeight());
 
         // Draw Victory text
-        gc.setFill(Color.GOLD);
-        gc.setFont(new Font("Arial", 64));
-        gc.setTextAlign(TextAlignment.CENTER);
-        gc.fillText("VICTORY!", gc.getCanvas().getWidth() / 2, 200);
+        renderer.setFill(Color.GOLD);
+        renderer.setFont(FONT_64);
+        renderer.setTextAlign(TextAlignment.CENTER);
+        renderer.fillText("VICTORY!", renderer.getWidth() / 2, 200);
 
         // Draw congratulations message
-        gc.setFill(Color.WHITE);
-        gc.setFont(new Font("Arial", 24));
-        gc.fillText("All enemies defeated!", gc.getCanvas().getWidth() / 2, 250);
+        renderer.setFill(Color.WHITE);
+        renderer.setFont(FONT_24);
+        renderer.fillText("All enemies defeated!", renderer.getWidth() / 2, 250);
 
         // Draw final score
-        gc.setFont(new Font("Arial", 32));
-        gc.fillText("Final Score: " + finalScore, gc.getCanvas().getWidth() / 2, 320);
+        renderer.setFont(FONT_32);
+        renderer.fillText(finalScoreText, renderer.getWidth() / 2, 320);
 
         // Draw options
-        gc.setFont(new Font("Arial", 20));
-        gc.fillText("Press ENTER to Play Again", gc.getCanvas().getWidth() / 2, 400);
-        gc.fillText("Press ESC to Return to Menu", gc.getCanvas().getWidth() / 2, 430);
+        renderer.setFont(FONT_20);
+        renderer.fillText("Press ENTER to Play Again", renderer.getWidth() / 2, 400);
+        renderer.fillText("Press ESC to Return to Menu", renderer.getWidth() / 2, 430);
     }
 
     @Override
     public void enter() {
-        logger.info("Victory! Final Score: " + finalScore);
+        logger.info("Victory! Final Score: {}", finalScore);
+        // Build the next run while this screen is showing
+        PlayingStatePreloader.getInstance().preload(context);
     }
 
     @Override
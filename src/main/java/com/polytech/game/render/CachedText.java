@@ -0,0 +1,26 @@
+package com.polytech.game.render;
+
+/**
+ * CachedText
+ * A label made of a fixed prefix and a number, rebuilt only when the number changes
+ */
+public class CachedText {
+    private final String prefix;
+    private long value;
+    private String text;
+
+    public CachedText(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Get the label for the value, reusing the last string if the value is unchanged
+     */
+    public String get(long value) {
+        if (text == null || value != this.value) {
+            this.value = value;
+            this.text = prefix + value;
+        }
+        return text;
+    }
+}
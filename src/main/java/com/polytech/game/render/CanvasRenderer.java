@@ -0,0 +1,90 @@
+package com.polytech.game.render;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * CanvasRenderer
+ * Renderer drawing on a JavaFX canvas
+ */
+public class CanvasRenderer implements Renderer {
+    private final GraphicsContext gc;
+    private SpriteAtlas spriteAtlas;
+
+    public CanvasRenderer(GraphicsContext gc) {
+        this.gc = gc;
+    }
+
+    @Override
+    public double getWidth() {
+        return gc.getCanvas().getWidth();
+    }
+
+    @Override
+    public double getHeight() {
+        return gc.getCanvas().getHeight();
+    }
+
+    @Override
+    public void setFill(Paint paint) {
+        gc.setFill(paint);
+    }
+
+    @Override
+    public void setStroke(Paint paint) {
+        gc.setStroke(paint);
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+        gc.setLineWidth(width);
+    }
+
+    @Override
+    public void setFont(Font font) {
+        gc.setFont(font);
+    }
+
+    @Override
+    public void setTextAlign(TextAlignment alignment) {
+        gc.setTextAlign(alignment);
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+        gc.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+        gc.fillOval(x, y, width, height);
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double width, double height) {
+        gc.strokeOval(x, y, width, height);
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+        gc.fillText(text, x, y);
+    }
+
+    @Override
+    public boolean drawSprite(Sprite sprite, int frame, double centerX, double centerY) {
+        return spriteAtlas != null && spriteAtlas.draw(gc, sprite, frame, centerX, centerY);
+    }
+
+    /**
+     * Use a built atlas for sprites, or null to always draw vectors
+     */
+    public void setSpriteAtlas(SpriteAtlas spriteAtlas) {
+        this.spriteAtlas = spriteAtlas;
+    }
+
+    public GraphicsContext getGraphicsContext() {
+        return gc;
+    }
+}
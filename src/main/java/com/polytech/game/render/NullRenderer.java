@@ -0,0 +1,71 @@
+package com.polytech.game.render;
+
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * NullRenderer
+ * Renderer that draws nothing (Null Object), for headless simulation
+ */
+public class NullRenderer implements Renderer {
+    private final double width;
+    private final double height;
+
+    public NullRenderer(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public void setFill(Paint paint) {
+    }
+
+    @Override
+    public void setStroke(Paint paint) {
+    }
+
+    @Override
+    public void setLineWidth(double width) {
+    }
+
+    @Override
+    public void setFont(Font font) {
+    }
+
+    @Override
+    public void setTextAlign(TextAlignment alignment) {
+    }
+
+    @Override
+    public void fillRect(double x, double y, double width, double height) {
+    }
+
+    @Override
+    public void fillOval(double x, double y, double width, double height) {
+    }
+
+    @Override
+    public void strokeOval(double x, double y, double width, double height) {
+    }
+
+    @Override
+    public void fillText(String text, double x, double y) {
+    }
+
+    @Override
+    public boolean drawSprite(Sprite sprite, int frame, double centerX, double centerY) {
+        // Nothing is drawn either way, so report the sprite as handled
+        return true;
+    }
+}
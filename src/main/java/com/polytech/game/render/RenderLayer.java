@@ -0,0 +1,14 @@
+package com.polytech.game.render;
+
+/**
+ * RenderLayer
+ * Stacked drawing surfaces of the layered rendering mode, back to front
+ */
+public enum RenderLayer {
+    /** Opaque backdrop and static screens, redrawn only when the state changes */
+    BACKGROUND,
+    /** Moving entities, normally redrawn every frame */
+    ENTITIES,
+    /** Score, lives and other overlays, redrawn when their content changes */
+    HUD
+}
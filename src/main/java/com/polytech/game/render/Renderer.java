@@ -0,0 +1,51 @@
+package com.polytech.game.render;
+
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Renderer Interface
+ * Drawing surface used by game states, components and characters.
+ *
+ * Decouples the game from the JavaFX canvas: {@link CanvasRenderer} draws
+ * on a GraphicsContext, {@link NullRenderer} discards everything so the
+ * simulation can run without the JavaFX toolkit.
+ */
+public interface Renderer {
+    /**
+     * Width of the drawing surface
+     */
+    double getWidth();
+
+    /**
+     * Height of the drawing surface
+     */
+    double getHeight();
+
+    void setFill(Paint paint);
+
+    void setStroke(Paint paint);
+
+    void setLineWidth(double width);
+
+    void setFont(Font font);
+
+    void setTextAlign(TextAlignment alignment);
+
+    void fillRect(double x, double y, double width, double height);
+
+    void fillOval(double x, double y, double width, double height);
+
+    void strokeOval(double x, double y, double width, double height);
+
+    void fillText(String text, double x, double y);
+
+    /**
+     * Draw a pre-rasterized sprite frame centered on the given position.
+     * Callers draw the vector version instead when this returns false.
+     *
+     * @return false if no rasterized version of the frame is available
+     */
+    boolean drawSprite(Sprite sprite, int frame, double centerX, double centerY);
+}
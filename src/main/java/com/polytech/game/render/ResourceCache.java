@@ -0,0 +1,44 @@
+package com.polytech.game.render;
+
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ResourceCache
+ * Interns fonts and colors so renderers share one instance per distinct
+ * value instead of allocating new ones every frame.
+ *
+ * Look resources up once (typically into static final fields) and reuse them.
+ */
+public final class ResourceCache {
+    private static final Map<String, Font> FONTS = new HashMap<>();
+    private static final Map<Color, Color> COLORS = new HashMap<>();
+
+    private ResourceCache() {
+    }
+
+    /**
+     * Get the shared font for a family and size
+     */
+    public static synchronized Font font(String family, double size) {
+        return FONTS.computeIfAbsent(family + "@" + size, key -> new Font(family, size));
+    }
+
+    /**
+     * Get the shared color for the given components (0 to 1)
+     */
+    public static Color color(double red, double green, double blue) {
+        return color(red, green, blue, 1.0);
+    }
+
+    /**
+     * Get the shared color for the given components and opacity (0 to 1)
+     */
+    public static synchronized Color color(double red, double green, double blue, double opacity) {
+        Color color = Color.color(red, green, blue, opacity);
+        return COLORS.computeIfAbsent(color, key -> key);
+    }
+}
@@ -0,0 +1,44 @@
+package com.polytech.game.render;
+
+/**
+ * Sprite
+ * Entity images that can be pre-rasterized into a {@link SpriteAtlas}.
+ * Sizes are the bounds of the drawing, centered on the entity position.
+ */
+public enum Sprite {
+    CHARACTER(40, 20, 1),
+    ENEMY(40, 30, 1),
+    PLAYER_BULLET(4, 12, 1),
+    ENEMY_BULLET(4, 12, 1),
+    POWER_UP_SPEED(34, 34, 16),
+    POWER_UP_SHIELD(34, 34, 16),
+    POWER_UP_FIRE(34, 34, 16),
+    SPEED_TRAIL(50, 30, 1),
+    SHIELD_BUBBLE(64, 44, 1),
+    FIRE_GLOW(44, 24, 1);
+
+    private final int width;
+    private final int height;
+    private final int frameCount;
+
+    Sprite(int width, int height, int frameCount) {
+        this.width = width;
+        this.height = height;
+        this.frameCount = frameCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Number of animation frames (1 for still images)
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+}
@@ -0,0 +1,156 @@
+package com.polytech.game.render;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SpriteAtlas
+ * Pre-rasterized entity images packed into a single texture.
+ *
+ * Sprite frames are registered with the vector code that draws them, then
+ * {@link #build()} paints every frame once on an off-screen canvas and
+ * snapshots it into a {@link WritableImage}. Drawing an entity then costs a
+ * single drawImage instead of a series of fill and state-change commands.
+ *
+ * {@link #build()} must run on the JavaFX application thread.
+ * Frames that were not registered are reported as missing, so callers can
+ * fall back to vector drawing.
+ */
+public class SpriteAtlas {
+    private static final int ATLAS_WIDTH = 512;
+    private static final int PADDING = 1; // Transparent border against sampling bleed
+
+    private final List<Entry> entries;
+    private final double[][] regions; // per sprite: sourceX, sourceY per frame
+    private WritableImage image;
+
+    private static final class Entry {
+        final Sprite sprite;
+        final int frame;
+        final SpritePainter painter;
+
+        Entry(Sprite sprite, int frame, SpritePainter painter) {
+            this.sprite = sprite;
+            this.frame = frame;
+            this.painter = painter;
+        }
+    }
+
+    public SpriteAtlas() {
+        this.entries = new ArrayList<>();
+        this.regions = new double[Sprite.values().length][];
+    }
+
+    /**
+     * Register the painter of one sprite frame
+     */
+    public void register(Sprite sprite, int frame, SpritePainter painter) {
+        if (image != null) {
+            throw new IllegalStateException("SpriteAtlas is already built");
+        }
+        if (frame < 0 || frame >= sprite.getFrameCount()) {
+            throw new IllegalArgumentException("Frame " + frame + " out of range for " + sprite);
+        }
+        entries.add(new Entry(sprite, frame, painter));
+    }
+
+    /**
+     * Pack and rasterize every registered frame
+     */
+    public void build() {
+        if (image != null) {
+            throw new IllegalStateException("SpriteAtlas is already built");
+        }
+
+        // Shelf packing: frames are laid out left to right, in rows
+        double[] positions = new double[entries.size() * 2];
+        int cursorX = 0;
+        int cursorY = 0;
+        int rowHeight = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Sprite sprite = entries.get(i).sprite;
+            int cellWidth = sprite.getWidth() + 2 * PADDING;
+            int cellHeight = sprite.getHeight() + 2 * PADDING;
+            if (cursorX + cellWidth > ATLAS_WIDTH) {
+                cursorX = 0;
+                cursorY += rowHeight;
+                rowHeight = 0;
+            }
+            positions[i * 2] = cursorX + PADDING;
+            positions[i * 2 + 1] = cursorY + PADDING;
+            cursorX += cellWidth;
+            rowHeight = Math.max(rowHeight, cellHeight);
+        }
+        int atlasHeight = Math.max(1, cursorY + rowHeight);
+
+        Canvas canvas = new Canvas(ATLAS_WIDTH, atlasHeight);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        Renderer renderer = new CanvasRenderer(gc);
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            double sourceX = positions[i * 2];
+            double sourceY = positions[i * 2 + 1];
+
+            // Clip so a painter cannot spill into a neighbouring frame
+            gc.save();
+            gc.beginPath();
+            gc.rect(sourceX, sourceY, entry.sprite.getWidth(), entry.sprite.getHeight());
+            gc.clip();
+            entry.painter.paint(renderer,
+                    sourceX + entry.sprite.getWidth() / 2.0,
+                    sourceY + entry.sprite.getHeight() / 2.0);
+            gc.restore();
+
+            double[] frames = regions[entry.sprite.ordinal()];
+            if (frames == null) {
+                frames = new double[entry.sprite.getFrameCount() * 2];
+                Arrays.fill(frames, -1);
+                regions[entry.sprite.ordinal()] = frames;
+            }
+            frames[entry.frame * 2] = sourceX;
+            frames[entry.frame * 2 + 1] = sourceY;
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        image = canvas.snapshot(parameters, null);
+        entries.clear();
+    }
+
+    /**
+     * Whether the frame has been rasterized
+     */
+    public boolean contains(Sprite sprite, int frame) {
+        double[] frames = regions[sprite.ordinal()];
+        return image != null && frames != null && frames[frame * 2] >= 0;
+    }
+
+    /**
+     * Draw a frame centered on the given position
+     *
+     * @return false if the frame is not in the atlas
+     */
+    public boolean draw(GraphicsContext gc, Sprite sprite, int frame, double centerX, double centerY) {
+        if (!contains(sprite, frame)) {
+            return false;
+        }
+        double[] frames = regions[sprite.ordinal()];
+        double width = sprite.getWidth();
+        double height = sprite.getHeight();
+        gc.drawImage(image, frames[frame * 2], frames[frame * 2 + 1], width, height,
+                centerX - width / 2, centerY - height / 2, width, height);
+        return true;
+    }
+
+    public Image getImage() {
+        return image;
+    }
+}
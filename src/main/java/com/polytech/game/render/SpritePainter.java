@@ -0,0 +1,10 @@
+package com.polytech.game.render;
+
+/**
+ * SpritePainter
+ * Vector drawing of one sprite frame, centered on the given position
+ */
+@FunctionalInterface
+public interface SpritePainter {
+    void paint(Renderer renderer, double centerX, double centerY);
+}
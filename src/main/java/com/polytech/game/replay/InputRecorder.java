@@ -0,0 +1,95 @@
+package com.polytech.game.replay;
+
+import com.polytech.game.patterns.singleton.GameLogger;
+import com.polytech.game.patterns.state.GameState;
+import com.polytech.game.patterns.state.PausedState;
+import com.polytech.game.patterns.state.PlayingState;
+import javafx.scene.input.KeyCode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * InputRecorder
+ * Records the key presses handled by each PlayingState run, indexed by
+ * simulation tick, and saves every finished run as a {@link ReplayFile}.
+ *
+ * Key presses are kept in memory during the run; the file is only written
+ * when the run ends (victory, game over or return to the menu). Pause and
+ * quit keys are not recorded: they do not affect the simulation.
+ */
+public class InputRecorder {
+    private final Path directory;
+    private final double tickRate;
+    private final GameLogger logger;
+
+    private PlayingState recording;
+    private long[] ticks = new long[256];
+    private KeyCode[] keys = new KeyCode[256];
+    private int count;
+
+    public InputRecorder(Path directory, double tickRate) {
+        this.directory = directory;
+        this.tickRate = tickRate;
+        this.logger = GameLogger.getInstance();
+    }
+
+    /**
+     * Record a key press about to be handled by the given state
+     */
+    public void record(GameState state, KeyCode key) {
+        track(state);
+        if (recording != state || key == KeyCode.P || key == KeyCode.ESCAPE) {
+            return;
+        }
+
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            keys = Arrays.copyOf(keys, count * 2);
+        }
+        ticks[count] = recording.getTickCount();
+        keys[count] = key;
+        count++;
+    }
+
+    /**
+     * Follow the current game state: start recording new runs and save
+     * the run being recorded once it has ended
+     */
+    public void track(GameState state) {
+        if (state instanceof PlayingState) {
+            if (state != recording) {
+                finish();
+                recording = (PlayingState) state;
+                count = 0;
+            }
+        } else if (!(state instanceof PausedState)) {
+            finish();
+        }
+    }
+
+    /**
+     * Save the run being recorded, if any
+     */
+    public void finish() {
+        if (recording == null) {
+            return;
+        }
+
+        ReplayFile replay = new ReplayFile(recording.getSeed(), tickRate, recording.getTickCount(),
+                                           Arrays.copyOf(ticks, count), Arrays.copyOf(keys, count));
+        Path file = directory.resolve("replay-" + System.currentTimeMillis() + ".grp");
+        try {
+            Files.createDirectories(directory);
+            replay.write(file);
+            logger.info("Replay saved to {} ({} ticks, {} inputs)", file, replay.getEndTick(), count);
+        } catch (IOException e) {
+            logger.error("Failed to save replay: {}", e.getMessage());
+        }
+
+        recording = null;
+        count = 0;
+    }
+}
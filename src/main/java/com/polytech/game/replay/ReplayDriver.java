@@ -0,0 +1,102 @@
+package com.polytech.game.replay;
+
+import com.polytech.game.engine.HeadlessSimulation;
+import com.polytech.game.patterns.singleton.GameLogger;
+import com.polytech.game.patterns.state.PlayingState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * ReplayDriver
+ * Feeds a recorded run back into a fresh PlayingState with the recorded seed.
+ *
+ * Runs headless, either at maximum speed (regression workloads) or paced
+ * in real time at the recorded tick rate.
+ *
+ * Usage: ReplayDriver [--realtime] (file|directory)...
+ */
+public class ReplayDriver {
+    private final ReplayFile replay;
+    private final HeadlessSimulation simulation;
+
+    public ReplayDriver(ReplayFile replay) {
+        this.replay = replay;
+        this.simulation = new HeadlessSimulation(replay.getTickRate(), false);
+    }
+
+    /**
+     * Replay the whole run
+     *
+     * @param realTime pace ticks at the recorded rate instead of running flat out
+     * @return the replayed state, in its final condition
+     */
+    public PlayingState run(boolean realTime) {
+        PlayingState state = simulation.startRun(replay.getSeed());
+        long stepNanos = (long) (1_000_000_000L / replay.getTickRate());
+        long start = System.nanoTime();
+
+        int next = 0;
+        while (state.getTickCount() < replay.getEndTick()) {
+            // Inputs recorded before tick t are handled before simulating it
+            while (next < replay.getEventCount() && replay.getTick(next) <= state.getTickCount()) {
+                state.handleInput(replay.getKey(next++));
+            }
+            if (!simulation.tick()) {
+                break; // The run ended (victory or game over)
+            }
+
+            if (realTime) {
+                long wait = start + state.getTickCount() * stepNanos - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+        }
+        return state;
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean realTime = false;
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            if ("--realtime".equals(arg)) {
+                realTime = true;
+            } else {
+                Path path = Paths.get(arg);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> listing = Files.list(path)) {
+                        listing.filter(p -> p.toString().endsWith(".grp")).sorted().forEach(files::add);
+                    }
+                } else {
+                    files.add(path);
+                }
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Usage: ReplayDriver [--realtime] (file|directory)...");
+            System.exit(1);
+        }
+
+        long totalTicks = 0;
+        long start = System.nanoTime();
+        for (Path file : files) {
+            ReplayFile replay = ReplayFile.read(file);
+            PlayingState state = new ReplayDriver(replay).run(realTime);
+            totalTicks += state.getTickCount();
+            System.out.printf("%s: %d ticks, score %d, lives %d%n",
+                    file.getFileName(), state.getTickCount(), state.getScore(), state.getLives());
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        GameLogger.getInstance().close();
+        System.out.printf("Replayed %d session(s): %d ticks in %.2fs (%.0f ticks/s)%n",
+                files.size(), totalTicks, seconds, totalTicks / seconds);
+    }
+}
@@ -0,0 +1,180 @@
+package com.polytech.game.replay;
+
+import javafx.scene.input.KeyCode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ReplayFile
+ * A recorded run: RNG seed, tick rate and the tick-indexed key presses.
+ *
+ * File format (GZIP-compressed, big-endian): int magic "GRPL", short version,
+ * long seed, double tick rate, varint end tick, varint event count, then per
+ * event a varint tick delta and a varint key index. Key names are stored once:
+ * an index equal to the number of keys seen so far introduces a new key and
+ * is followed by its name (UTF).
+ */
+public class ReplayFile {
+    private static final int MAGIC = 0x4752504C; // "GRPL"
+    private static final short VERSION = 1;
+
+    private final long seed;
+    private final double tickRate;
+    private final long endTick;
+    private final long[] ticks;
+    private final KeyCode[] keys;
+
+    public ReplayFile(long seed, double tickRate, long endTick, long[] ticks, KeyCode[] keys) {
+        if (ticks.length != keys.length) {
+            throw new IllegalArgumentException("Ticks and keys must have the same length");
+        }
+        this.seed = seed;
+        this.tickRate = tickRate;
+        this.endTick = endTick;
+        this.ticks = ticks;
+        this.keys = keys;
+    }
+
+    public void write(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out);
+        }
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(stream);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(gzip));
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeDouble(tickRate);
+        writeVarLong(out, endTick);
+        writeVarLong(out, ticks.length);
+
+        List<KeyCode> dictionary = new ArrayList<>();
+        long previousTick = 0;
+        for (int i = 0; i < ticks.length; i++) {
+            writeVarLong(out, ticks[i] - previousTick);
+            previousTick = ticks[i];
+
+            int index = dictionary.indexOf(keys[i]);
+            if (index >= 0) {
+                writeVarLong(out, index);
+            } else {
+                writeVarLong(out, dictionary.size());
+                out.writeUTF(keys[i].name());
+                dictionary.add(keys[i]);
+            }
+        }
+        out.flush();
+        gzip.finish();
+    }
+
+    public static ReplayFile read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    public static ReplayFile read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        long seed = in.readLong();
+        double tickRate = in.readDouble();
+        long endTick = readVarLong(in);
+        int count = (int) readVarLong(in);
+
+        long[] ticks = new long[count];
+        KeyCode[] keys = new KeyCode[count];
+        List<KeyCode> dictionary = new ArrayList<>();
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            tick += readVarLong(in);
+            ticks[i] = tick;
+
+            int index = (int) readVarLong(in);
+            if (index == dictionary.size()) {
+                dictionary.add(KeyCode.valueOf(in.readUTF()));
+            } else if (index > dictionary.size()) {
+                throw new IOException("Corrupt replay: key index " + index);
+            }
+            keys[i] = dictionary.get(index);
+        }
+        return new ReplayFile(seed, tickRate, endTick, ticks, keys);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt replay: varint too long");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getTickRate() {
+        return tickRate;
+    }
+
+    /**
+     * Tick count of the run when the recording stopped
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+
+    public int getEventCount() {
+        return ticks.length;
+    }
+
+    /**
+     * Tick before which the i-th key press was handled
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    public KeyCode getKey(int index) {
+        return keys[index];
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayFile[seed=" + seed + ", tickRate=" + tickRate + ", endTick=" + endTick +
+               ", events=" + ticks.length + ", keys=" + Arrays.stream(keys).distinct().count() + "]";
+    }
+}